@@ -0,0 +1,134 @@
+package lowe.mike.strimko.model;
+
+import static java.nio.file.Files.createTempDirectory;
+import static java.nio.file.Files.delete;
+import static java.nio.file.Files.walkFileTree;
+import static lowe.mike.strimko.model.Constants.PUZZLES_RESOURCE_NAME;
+import static lowe.mike.strimko.model.FileHandler.copyPuzzlesToDirectory;
+import static lowe.mike.strimko.model.FileHandler.listPuzzleFileNames;
+import static lowe.mike.strimko.model.FileHandler.read;
+import static lowe.mike.strimko.model.FileHandler.readPathsToPuzzles;
+
+import java.io.IOException;
+import java.nio.file.FileVisitResult;
+import java.nio.file.Path;
+import java.nio.file.SimpleFileVisitor;
+import java.nio.file.attribute.BasicFileAttributes;
+import java.util.ArrayList;
+import java.util.List;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+
+/**
+ * {@code BundledPuzzles} is benchmark state holding every bundled {@link Puzzle} of a {@link Type}
+ * and {@link Difficulty}.
+ *
+ * <p>The bundled puzzles are copied to a temporary directory before a trial so they can be read
+ * with {@link FileHandler} in the same way as puzzles in the user directory.
+ *
+ * @author Mike Lowe
+ */
+@State(Scope.Benchmark)
+public class BundledPuzzles {
+
+  @Param({"STRIMKO", "SUDOKU"})
+  private Type type;
+
+  @Param({"EASY", "MEDIUM", "HARD"})
+  private Difficulty difficulty;
+
+  private Path puzzleDirectory;
+  private final List<String> names = new ArrayList<>();
+  private final List<Puzzle> puzzles = new ArrayList<>();
+
+  /**
+   * Copies the bundled puzzles to a temporary directory and reads the ones of the {@link Type} and
+   * {@link Difficulty} being benchmarked.
+   *
+   * @throws IOException if the temporary directory could not be created
+   * @throws FileHandlingException if the puzzles could not be copied or read
+   */
+  @Setup(Level.Trial)
+  public void setup() throws IOException, FileHandlingException {
+    puzzleDirectory = createTempDirectory("strimko-puzzles");
+    copyPuzzlesToDirectory(puzzleDirectory.toString(), readPathsToPuzzles(PUZZLES_RESOURCE_NAME));
+    names.addAll(listPuzzleFileNames(puzzleDirectory.toString(), type, difficulty));
+    for (String name : names) {
+      puzzles.add(read(puzzleDirectory.toString(), type, difficulty, name));
+    }
+  }
+
+  /**
+   * Deletes the temporary directory the puzzles were copied to.
+   *
+   * @throws IOException if the temporary directory could not be deleted
+   */
+  @TearDown(Level.Trial)
+  public void tearDown() throws IOException {
+    walkFileTree(puzzleDirectory, new SimpleFileVisitor<Path>() {
+      @Override
+      public FileVisitResult visitFile(Path file, BasicFileAttributes attributes)
+          throws IOException {
+        delete(file);
+        return FileVisitResult.CONTINUE;
+      }
+
+      @Override
+      public FileVisitResult postVisitDirectory(Path directory, IOException e)
+          throws IOException {
+        delete(directory);
+        return FileVisitResult.CONTINUE;
+      }
+    });
+  }
+
+  /**
+   * Returns the {@link Type} being benchmarked.
+   *
+   * @return the {@link Type} being benchmarked
+   */
+  public Type getType() {
+    return type;
+  }
+
+  /**
+   * Returns the {@link Difficulty} being benchmarked.
+   *
+   * @return the {@link Difficulty} being benchmarked
+   */
+  public Difficulty getDifficulty() {
+    return difficulty;
+  }
+
+  /**
+   * Returns the directory the puzzles were copied to.
+   *
+   * @return the directory the puzzles were copied to
+   */
+  public String getPuzzleDirectory() {
+    return puzzleDirectory.toString();
+  }
+
+  /**
+   * Returns the names of the puzzles.
+   *
+   * @return the names of the puzzles
+   */
+  public List<String> getNames() {
+    return names;
+  }
+
+  /**
+   * Returns the puzzles.
+   *
+   * @return the puzzles
+   */
+  public List<Puzzle> getPuzzles() {
+    return puzzles;
+  }
+
+}
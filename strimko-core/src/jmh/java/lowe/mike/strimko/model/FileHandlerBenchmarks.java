@@ -0,0 +1,31 @@
+package lowe.mike.strimko.model;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.infra.Blackhole;
+
+/**
+ * {@link FileHandler} benchmarks.
+ *
+ * <p>Each operation reads every bundled {@link Puzzle} of a {@link Type} and {@link Difficulty},
+ * which includes solving each of them.
+ *
+ * @author Mike Lowe
+ */
+public class FileHandlerBenchmarks {
+
+  /**
+   * Benchmarks reading each {@link Puzzle}.
+   *
+   * @param puzzles the {@link BundledPuzzles} to read
+   * @param blackhole the {@link Blackhole} consuming the results
+   * @throws FileHandlingException if a {@link Puzzle} cannot be read
+   */
+  @Benchmark
+  public void read(BundledPuzzles puzzles, Blackhole blackhole) throws FileHandlingException {
+    for (String name : puzzles.getNames()) {
+      blackhole.consume(FileHandler.read(puzzles.getPuzzleDirectory(), puzzles.getType(),
+          puzzles.getDifficulty(), name));
+    }
+  }
+
+}
@@ -0,0 +1,31 @@
+package lowe.mike.strimko.model;
+
+import static lowe.mike.strimko.model.Grid.copyOf;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.infra.Blackhole;
+
+/**
+ * {@link Grid} benchmarks.
+ *
+ * <p>Each operation copies the {@link Grid} of every bundled {@link Puzzle} of a {@link Type} and
+ * {@link Difficulty}.
+ *
+ * @author Mike Lowe
+ */
+public class GridBenchmarks {
+
+  /**
+   * Benchmarks copying each {@link Grid}.
+   *
+   * @param puzzles the {@link BundledPuzzles} to copy the grids of
+   * @param blackhole the {@link Blackhole} consuming the results
+   */
+  @Benchmark
+  public void copyOfGrid(BundledPuzzles puzzles, Blackhole blackhole) {
+    for (Puzzle puzzle : puzzles.getPuzzles()) {
+      blackhole.consume(copyOf(puzzle.getGrid()));
+    }
+  }
+
+}
@@ -0,0 +1,65 @@
+package lowe.mike.strimko.model;
+
+import java.util.ArrayList;
+import java.util.List;
+import lowe.mike.strimko.model.Grid.GridBuilder;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.infra.Blackhole;
+
+/**
+ * {@link GridBuilder} benchmarks.
+ *
+ * <p>Each operation builds the {@link Grid} of every bundled {@link Puzzle} of a {@link Type} and
+ * {@link Difficulty}.
+ *
+ * @author Mike Lowe
+ */
+public class GridBuilderBenchmarks {
+
+  /**
+   * Benchmarks building each {@link Grid}.
+   *
+   * @param gridBuilders the {@link GridBuilders} to build from
+   * @param blackhole the {@link Blackhole} consuming the results
+   */
+  @Benchmark
+  public void build(GridBuilders gridBuilders, Blackhole blackhole) {
+    for (GridBuilder gridBuilder : gridBuilders.gridBuilders) {
+      blackhole.consume(gridBuilder.build());
+    }
+  }
+
+  /**
+   * Holds a {@link GridBuilder} set up with the streams and numbers of each {@link Puzzle}.
+   */
+  @State(Scope.Benchmark)
+  public static class GridBuilders {
+
+    private final List<GridBuilder> gridBuilders = new ArrayList<>();
+
+    /**
+     * Sets up a {@link GridBuilder} for each {@link Puzzle}.
+     *
+     * @param puzzles the {@link BundledPuzzles}
+     */
+    @Setup(Level.Trial)
+    public void setup(BundledPuzzles puzzles) {
+      for (Puzzle puzzle : puzzles.getPuzzles()) {
+        Grid grid = puzzle.getGrid();
+        int size = grid.getSize();
+        int[][] streams = new int[size][size];
+        int[][] numbers = new int[size][size];
+        for (Cell cell : grid.getCells()) {
+          streams[cell.getRowIndex()][cell.getColumnIndex()] = cell.getStreamIndex();
+          numbers[cell.getRowIndex()][cell.getColumnIndex()] = cell.getNumber();
+        }
+        gridBuilders.add(new GridBuilder(size).setStreams(streams).setNumbers(numbers));
+      }
+    }
+  }
+
+}
@@ -0,0 +1,42 @@
+package lowe.mike.strimko.model.solver;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.infra.Blackhole;
+
+/**
+ * {@link BruteForceMethod} benchmarks.
+ *
+ * <p>Each operation solves the starting grid of every bundled puzzle of a type and difficulty.
+ *
+ * @author Mike Lowe
+ */
+public class BruteForceMethodBenchmarks {
+
+  /**
+   * Benchmarks solving each {@link SolvingGrid} by brute force.
+   *
+   * @param grids the {@link SolvingGrids} to solve
+   * @param blackhole the {@link Blackhole} consuming the results
+   */
+  @Benchmark
+  public void run(SolvingGrids grids, Blackhole blackhole) {
+    for (SolvingGrid grid : grids.getGrids()) {
+      blackhole.consume(BruteForceMethod.run(grid));
+    }
+  }
+
+  /**
+   * Benchmarks solving each {@link SolvingGrid} by brute force, always trying the cell
+   * with the fewest possible numbers next.
+   *
+   * @param grids the {@link SolvingGrids} to solve
+   * @param blackhole the {@link Blackhole} consuming the results
+   */
+  @Benchmark
+  public void runMinimumRemainingValues(SolvingGrids grids, Blackhole blackhole) {
+    for (SolvingGrid grid : grids.getGrids()) {
+      blackhole.consume(BruteForceMethod.runMinimumRemainingValues(grid));
+    }
+  }
+
+}
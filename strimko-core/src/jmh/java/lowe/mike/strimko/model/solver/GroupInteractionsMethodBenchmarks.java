@@ -0,0 +1,51 @@
+package lowe.mike.strimko.model.solver;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.infra.Blackhole;
+
+/**
+ * {@link GroupInteractionsMethod} benchmarks.
+ *
+ * <p>Each operation runs the method once over a copy of every bundled puzzle of a type and
+ * difficulty with its naked and hidden singles filled in.
+ *
+ * @author Mike Lowe
+ */
+@State(Scope.Benchmark)
+public class GroupInteractionsMethodBenchmarks {
+
+  @Param({"2", "3"})
+  private int combinationSize;
+
+  /**
+   * Benchmarks the 'Pointing N' method.
+   *
+   * @param grids the {@link SolvingGrids} to run the method over
+   * @param blackhole the {@link Blackhole} consuming the results
+   */
+  @Benchmark
+  public void runPointingN(SolvingGrids grids, Blackhole blackhole) {
+    for (SolvingGrid grid : grids.getGridsWithoutSingles()) {
+      blackhole.consume(
+          GroupInteractionsMethod.runPointingN(SolvingGrid.copyOf(grid), combinationSize));
+    }
+  }
+
+  /**
+   * Benchmarks the 'Stream Line Reduction N' method.
+   *
+   * @param grids the {@link SolvingGrids} to run the method over
+   * @param blackhole the {@link Blackhole} consuming the results
+   */
+  @Benchmark
+  public void runStreamLineReductionN(SolvingGrids grids, Blackhole blackhole) {
+    for (SolvingGrid grid : grids.getGridsWithoutSingles()) {
+      blackhole.consume(GroupInteractionsMethod.runStreamLineReductionN(SolvingGrid.copyOf(grid),
+          combinationSize));
+    }
+  }
+
+}
@@ -0,0 +1,49 @@
+package lowe.mike.strimko.model.solver;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.infra.Blackhole;
+
+/**
+ * {@link NMethod} benchmarks.
+ *
+ * <p>Each operation runs the method once over a copy of every bundled puzzle of a type and
+ * difficulty with its naked and hidden singles filled in.
+ *
+ * @author Mike Lowe
+ */
+@State(Scope.Benchmark)
+public class NMethodBenchmarks {
+
+  @Param({"2", "3", "4"})
+  private int combinationSize;
+
+  /**
+   * Benchmarks the 'Naked N' method.
+   *
+   * @param grids the {@link SolvingGrids} to run the method over
+   * @param blackhole the {@link Blackhole} consuming the results
+   */
+  @Benchmark
+  public void runNakedN(SolvingGrids grids, Blackhole blackhole) {
+    for (SolvingGrid grid : grids.getGridsWithoutSingles()) {
+      blackhole.consume(NMethod.runNakedN(SolvingGrid.copyOf(grid), combinationSize));
+    }
+  }
+
+  /**
+   * Benchmarks the 'Hidden N' method.
+   *
+   * @param grids the {@link SolvingGrids} to run the method over
+   * @param blackhole the {@link Blackhole} consuming the results
+   */
+  @Benchmark
+  public void runHiddenN(SolvingGrids grids, Blackhole blackhole) {
+    for (SolvingGrid grid : grids.getGridsWithoutSingles()) {
+      blackhole.consume(NMethod.runHiddenN(SolvingGrid.copyOf(grid), combinationSize));
+    }
+  }
+
+}
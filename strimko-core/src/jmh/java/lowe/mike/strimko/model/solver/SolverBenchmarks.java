@@ -0,0 +1,30 @@
+package lowe.mike.strimko.model.solver;
+
+import lowe.mike.strimko.model.BundledPuzzles;
+import lowe.mike.strimko.model.Puzzle;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.infra.Blackhole;
+
+/**
+ * {@link Solver} benchmarks.
+ *
+ * <p>Each operation solves every bundled {@link Puzzle} of a type and difficulty.
+ *
+ * @author Mike Lowe
+ */
+public class SolverBenchmarks {
+
+  /**
+   * Benchmarks solving each {@link Puzzle}.
+   *
+   * @param puzzles the {@link BundledPuzzles} to solve
+   * @param blackhole the {@link Blackhole} consuming the results
+   */
+  @Benchmark
+  public void solve(BundledPuzzles puzzles, Blackhole blackhole) {
+    for (Puzzle puzzle : puzzles.getPuzzles()) {
+      blackhole.consume(Solver.solve(puzzle.getGrid()));
+    }
+  }
+
+}
@@ -0,0 +1,29 @@
+package lowe.mike.strimko.model.solver;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.infra.Blackhole;
+
+/**
+ * {@link SolvingGrid} benchmarks.
+ *
+ * <p>The solving method benchmarks work on copies so that each operation starts from the same
+ * grids, copying on its own gives the cost to subtract from them.
+ *
+ * @author Mike Lowe
+ */
+public class SolvingGridBenchmarks {
+
+  /**
+   * Benchmarks copying each {@link SolvingGrid}.
+   *
+   * @param grids the {@link SolvingGrids} to copy
+   * @param blackhole the {@link Blackhole} consuming the results
+   */
+  @Benchmark
+  public void copyOfSolvingGrid(SolvingGrids grids, Blackhole blackhole) {
+    for (SolvingGrid grid : grids.getGridsWithoutSingles()) {
+      blackhole.consume(SolvingGrid.copyOf(grid));
+    }
+  }
+
+}
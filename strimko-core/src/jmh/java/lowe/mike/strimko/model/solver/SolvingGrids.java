@@ -0,0 +1,70 @@
+package lowe.mike.strimko.model.solver;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.List;
+import lowe.mike.strimko.model.BundledPuzzles;
+import lowe.mike.strimko.model.Position;
+import lowe.mike.strimko.model.Puzzle;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+
+/**
+ * {@code SolvingGrids} is benchmark state holding a {@link SolvingGrid} for each of the {@link
+ * BundledPuzzles}.
+ *
+ * <p>As well as each puzzle's starting grid, a copy with every naked and hidden single filled in is
+ * kept, which is the point the medium and hard solving methods are first needed.
+ *
+ * @author Mike Lowe
+ */
+@State(Scope.Benchmark)
+public class SolvingGrids {
+
+  private final List<SolvingGrid> grids = new ArrayList<>();
+  private final List<SolvingGrid> gridsWithoutSingles = new ArrayList<>();
+
+  /**
+   * Creates a {@link SolvingGrid} for each {@link Puzzle}.
+   *
+   * @param puzzles the {@link BundledPuzzles}
+   */
+  @Setup(Level.Trial)
+  public void setup(BundledPuzzles puzzles) {
+    Collection<Position> hints = new ArrayList<>();
+    for (Puzzle puzzle : puzzles.getPuzzles()) {
+      SolvingGrid grid = SolvingGrid.of(puzzle.getGrid());
+      grids.add(grid);
+
+      SolvingGrid gridWithoutSingles = SolvingGrid.copyOf(grid);
+      while (NakedSingleMethod.run(gridWithoutSingles, hints)
+          || HiddenSingleMethod.run(gridWithoutSingles, hints)) {
+        hints.clear();
+      }
+      gridsWithoutSingles.add(gridWithoutSingles);
+    }
+  }
+
+  /**
+   * Returns the starting {@link SolvingGrid} of each {@link Puzzle}.
+   *
+   * @return the starting {@link SolvingGrid} of each {@link Puzzle}
+   */
+  List<SolvingGrid> getGrids() {
+    return grids;
+  }
+
+  /**
+   * Returns the {@link SolvingGrid} of each {@link Puzzle} with every naked and hidden single
+   * filled in.
+   *
+   * @return the {@link SolvingGrid} of each {@link Puzzle} with every naked and hidden single
+   *     filled in
+   */
+  List<SolvingGrid> getGridsWithoutSingles() {
+    return gridsWithoutSingles;
+  }
+
+}
@@ -0,0 +1,345 @@
+package lowe.mike.strimko;
+
+import static com.google.common.base.Preconditions.checkArgument;
+import static java.lang.Integer.parseInt;
+import static java.lang.Long.parseLong;
+import static java.lang.Runtime.getRuntime;
+import static java.util.concurrent.Executors.newFixedThreadPool;
+import static lowe.mike.strimko.model.FileHandler.listPuzzleFiles;
+import static lowe.mike.strimko.model.FileHandler.readGrid;
+import static lowe.mike.strimko.model.solver.Solver.solve;
+
+import java.io.PrintStream;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.util.HashMap;
+import java.util.Locale;
+import java.util.Map;
+import java.util.concurrent.CompletionService;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorCompletionService;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+import lowe.mike.strimko.model.Difficulty;
+import lowe.mike.strimko.model.FileHandler;
+import lowe.mike.strimko.model.FileHandlingException;
+import lowe.mike.strimko.model.Grid;
+import lowe.mike.strimko.model.Type;
+import lowe.mike.strimko.model.solver.SolvingResult;
+
+/**
+ * Headless entry point for rating a directory of puzzles.
+ *
+ * <p>The directory is laid out in the same way as the puzzle directory used by {@link
+ * FileHandler}, with a sub-directory for each {@link Type} and {@link Difficulty}. Each puzzle is
+ * solved on a pool of threads. When a puzzle has been rated, a line is written for it with its
+ * path, size, type, rated difficulty, the nanoseconds taken to solve it and its number of hints.
+ * Puzzles that could not be rated, including any that took longer than the optional timeout to
+ * solve, are reported on standard error.
+ *
+ * <p>Usage: {@code StrimkoRater [--format csv|ndjson] [--threads n] [--timeout ms] <puzzle
+ * directory>}
+ *
+ * @author Mike Lowe
+ */
+public final class StrimkoRater {
+
+  private static final String USAGE = "Usage: StrimkoRater [--format csv|ndjson] [--threads n] "
+      + "[--timeout ms] <puzzle directory>";
+  private static final long NO_TIMEOUT = 0;
+
+  /**
+   * {@code Format} enum represents the format of the lines written for rated puzzles.
+   */
+  enum Format {
+
+    CSV {
+      @Override
+      String getHeader() {
+        return "path,size,type,difficulty,solveNanos,hintCount";
+      }
+
+      @Override
+      String format(Rating rating) {
+        return escapeCsv(rating.path.toString()) + ','
+            + rating.size + ','
+            + rating.type + ','
+            + rating.difficulty + ','
+            + rating.solveNanos + ','
+            + rating.hintCount;
+      }
+    },
+
+    NDJSON {
+      @Override
+      String getHeader() {
+        return null;
+      }
+
+      @Override
+      String format(Rating rating) {
+        return "{\"path\":" + escapeJson(rating.path.toString())
+            + ",\"size\":" + rating.size
+            + ",\"type\":\"" + rating.type + '"'
+            + ",\"difficulty\":\"" + rating.difficulty + '"'
+            + ",\"solveNanos\":" + rating.solveNanos
+            + ",\"hintCount\":" + rating.hintCount + '}';
+      }
+    };
+
+    /**
+     * Returns the line written before any puzzles or {@code null} if there isn't one.
+     *
+     * @return the line written before any puzzles or {@code null} if there isn't one
+     */
+    abstract String getHeader();
+
+    /**
+     * Returns the line written for a rated puzzle.
+     *
+     * @param rating the {@link Rating} of the puzzle
+     * @return the line written for the rated puzzle
+     */
+    abstract String format(Rating rating);
+
+  }
+
+  /**
+   * {@code Rating} instances hold the rating of a single puzzle file.
+   */
+  static final class Rating {
+
+    private final Path path;
+    private final int size;
+    private final Type type;
+    private final Difficulty difficulty;
+    private final long solveNanos;
+    private final int hintCount;
+
+    private Rating(Path path, int size, Type type, Difficulty difficulty, long solveNanos,
+        int hintCount) {
+      this.path = path;
+      this.size = size;
+      this.type = type;
+      this.difficulty = difficulty;
+      this.solveNanos = solveNanos;
+      this.hintCount = hintCount;
+    }
+
+  }
+
+  private final Path puzzleDirectory;
+  private final Format format;
+  private final int numberOfThreads;
+  private final long timeoutMillis;
+
+  /**
+   * Creates a new {@code StrimkoRater} instance with no timeout.
+   *
+   * @param puzzleDirectory the directory where the puzzles are stored
+   * @param format the {@link Format} of the lines written
+   * @param numberOfThreads the number of threads to solve puzzles on
+   * @throws IllegalArgumentException if {@code numberOfThreads} is not positive
+   */
+  StrimkoRater(Path puzzleDirectory, Format format, int numberOfThreads) {
+    this(puzzleDirectory, format, numberOfThreads, NO_TIMEOUT);
+  }
+
+  /**
+   * Creates a new {@code StrimkoRater} instance.
+   *
+   * @param puzzleDirectory the directory where the puzzles are stored
+   * @param format the {@link Format} of the lines written
+   * @param numberOfThreads the number of threads to solve puzzles on
+   * @param timeoutMillis the milliseconds each puzzle may take to solve, 0 for no timeout
+   * @throws IllegalArgumentException if {@code numberOfThreads} is not positive or {@code
+   *     timeoutMillis} is negative
+   */
+  StrimkoRater(Path puzzleDirectory, Format format, int numberOfThreads, long timeoutMillis) {
+    checkArgument(numberOfThreads > 0, "Number of threads must be positive");
+    checkArgument(timeoutMillis >= 0, "Timeout must not be negative");
+    this.puzzleDirectory = puzzleDirectory;
+    this.format = format;
+    this.numberOfThreads = numberOfThreads;
+    this.timeoutMillis = timeoutMillis;
+  }
+
+  /**
+   * Rates the puzzles in the directory given on the command line.
+   *
+   * @param args the command line arguments
+   * @throws FileHandlingException if the puzzle files could not be listed
+   * @throws InterruptedException if interrupted while waiting for puzzles to be rated
+   */
+  public static void main(String[] args) throws FileHandlingException, InterruptedException {
+    StrimkoRater rater;
+    try {
+      rater = fromArguments(args);
+    } catch (IllegalArgumentException e) {
+      System.err.println(e.getMessage());
+      System.err.println(USAGE);
+      System.exit(2);
+      return;
+    }
+
+    int numberOfFailures = rater.rate(System.out, System.err);
+    System.exit(numberOfFailures == 0 ? 0 : 1);
+  }
+
+  /**
+   * Creates a new {@code StrimkoRater} instance from command line arguments.
+   *
+   * @param args the command line arguments
+   * @return the {@code StrimkoRater}
+   * @throws IllegalArgumentException if the arguments are not valid
+   */
+  static StrimkoRater fromArguments(String... args) {
+    Format format = Format.CSV;
+    int numberOfThreads = getRuntime().availableProcessors();
+    long timeoutMillis = NO_TIMEOUT;
+    Path puzzleDirectory = null;
+
+    for (int i = 0; i < args.length; i++) {
+      String arg = args[i];
+      if ("--format".equals(arg)) {
+        format = parseFormat(getOptionValue(args, ++i, arg));
+      } else if ("--threads".equals(arg)) {
+        numberOfThreads = parseNumberOfThreads(getOptionValue(args, ++i, arg));
+      } else if ("--timeout".equals(arg)) {
+        timeoutMillis = parseTimeout(getOptionValue(args, ++i, arg));
+      } else {
+        checkArgument(puzzleDirectory == null, "Unexpected argument '%s'", arg);
+        puzzleDirectory = Paths.get(arg);
+      }
+    }
+
+    checkArgument(puzzleDirectory != null, "No puzzle directory given");
+    checkArgument(Files.isDirectory(puzzleDirectory), "'%s' is not a directory", puzzleDirectory);
+    return new StrimkoRater(puzzleDirectory, format, numberOfThreads, timeoutMillis);
+  }
+
+  private static String getOptionValue(String[] args, int index, String option) {
+    checkArgument(index < args.length, "No value given for '%s'", option);
+    return args[index];
+  }
+
+  private static Format parseFormat(String value) {
+    try {
+      return Format.valueOf(value.toUpperCase(Locale.ROOT));
+    } catch (IllegalArgumentException e) {
+      throw new IllegalArgumentException("Unknown format '" + value + "'");
+    }
+  }
+
+  private static int parseNumberOfThreads(String value) {
+    try {
+      return parseInt(value);
+    } catch (NumberFormatException e) {
+      throw new IllegalArgumentException("Invalid number of threads '" + value + "'");
+    }
+  }
+
+  private static long parseTimeout(String value) {
+    try {
+      return parseLong(value);
+    } catch (NumberFormatException e) {
+      throw new IllegalArgumentException("Invalid timeout '" + value + "'");
+    }
+  }
+
+  /**
+   * Rates every puzzle in the puzzle directory, writing a line for each as soon as it is rated.
+   *
+   * @param out the {@link PrintStream} to write the lines to
+   * @param err the {@link PrintStream} to report puzzles that could not be rated to
+   * @return the number of puzzles that could not be rated
+   * @throws FileHandlingException if the puzzle files could not be listed
+   * @throws InterruptedException if interrupted while waiting for puzzles to be rated
+   */
+  int rate(PrintStream out, PrintStream err) throws FileHandlingException, InterruptedException {
+    String header = format.getHeader();
+    if (header != null) {
+      out.println(header);
+    }
+
+    ExecutorService executor = newFixedThreadPool(numberOfThreads);
+    try {
+      CompletionService<Rating> completionService = new ExecutorCompletionService<>(executor);
+      Map<Future<Rating>, Path> paths = submitPuzzles(completionService);
+      return writeRatings(completionService, paths, out, err);
+    } finally {
+      executor.shutdownNow();
+    }
+  }
+
+  private Map<Future<Rating>, Path> submitPuzzles(CompletionService<Rating> completionService)
+      throws FileHandlingException {
+    Map<Future<Rating>, Path> paths = new HashMap<>();
+    for (Type type : Type.values()) {
+      for (Difficulty difficulty : Difficulty.values()) {
+        for (Path path : listPuzzleFiles(puzzleDirectory.toString(), type, difficulty)) {
+          paths.put(completionService.submit(() -> ratePuzzle(path, type)), path);
+        }
+      }
+    }
+    return paths;
+  }
+
+  private Rating ratePuzzle(Path path, Type type)
+      throws FileHandlingException, TimeoutException {
+    Grid grid = readGrid(path, type);
+    long start = System.nanoTime();
+    SolvingResult result = timeoutMillis == NO_TIMEOUT
+        ? solve(grid) : solve(grid, timeoutMillis, TimeUnit.MILLISECONDS);
+    long solveNanos = System.nanoTime() - start;
+    if (result.isTimedOut()) {
+      throw new TimeoutException(String.format(Locale.ROOT,
+          "Timed out after %d ms with %.0f%% of cells solved", timeoutMillis,
+          100 * result.getProgress()));
+    }
+    return new Rating(path, grid.getSize(), type, result.getDifficulty(), solveNanos,
+        result.getHints().size());
+  }
+
+  private int writeRatings(CompletionService<Rating> completionService,
+      Map<Future<Rating>, Path> paths, PrintStream out, PrintStream err)
+      throws InterruptedException {
+    int numberOfFailures = 0;
+    for (int i = 0; i < paths.size(); i++) {
+      Future<Rating> future = completionService.take();
+      try {
+        out.println(format.format(future.get()));
+      } catch (ExecutionException e) {
+        err.println("Could not rate '" + paths.get(future) + "': " + e.getCause().getMessage());
+        numberOfFailures++;
+      }
+    }
+    return numberOfFailures;
+  }
+
+  private static String escapeCsv(String value) {
+    if (value.indexOf(',') < 0 && value.indexOf('"') < 0 && value.indexOf('\n') < 0
+        && value.indexOf('\r') < 0) {
+      return value;
+    }
+    return '"' + value.replace("\"", "\"\"") + '"';
+  }
+
+  private static String escapeJson(String value) {
+    StringBuilder builder = new StringBuilder("\"");
+    for (char c : value.toCharArray()) {
+      if (c == '"' || c == '\\') {
+        builder.append('\\').append(c);
+      } else if (c < ' ') {
+        builder.append(String.format("\\u%04x", (int) c));
+      } else {
+        builder.append(c);
+      }
+    }
+    return builder.append('"').toString();
+  }
+
+}
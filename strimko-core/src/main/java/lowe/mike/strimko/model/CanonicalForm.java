@@ -0,0 +1,354 @@
+package lowe.mike.strimko.model;
+
+import static lowe.mike.strimko.model.Constants.NO_NUMBER;
+import static lowe.mike.strimko.model.Constants.SUDOKU_SIZE;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+
+/**
+ * {@code CanonicalForm} instances are intended to represent the canonical form of a {@link Grid}'s
+ * streams and numbers, so that {@link Grid}s which are the same puzzle up to symmetry can be
+ * recognised.
+ *
+ * <p>The symmetries considered are relabelling the numbers, relabelling the streams, the 8
+ * rotations and reflections of the grid and, for Sudoku, permuting the bands of rows and the stacks
+ * of columns. The canonical form is the smallest encoding of the streams followed by the numbers,
+ * read row by row, over every rotation, reflection and permutation, with the streams and numbers
+ * relabelled in the order they are first read. Two {@link Grid}s are the same puzzle up to symmetry
+ * if and only if their {@code CanonicalForm}s are equal.
+ *
+ * <p>Each {@code CanonicalForm} also keeps the mapping from its {@link Grid} to the canonical
+ * {@link Grid}, so that positions and numbers, such as those of a solution, can be mapped either
+ * way.
+ *
+ * @author Mike Lowe
+ */
+public final class CanonicalForm {
+
+  private static final int SUDOKU_BAND_SIZE = 3;
+
+  // 64-bit FNV-1a
+  private static final long FNV_OFFSET_BASIS = 0xcbf29ce484222325L;
+  private static final long FNV_PRIME = 0x100000001b3L;
+
+  private final int size;
+  private final int[] encoding;
+  private final int[] cellMapping;
+  private final int[] inverseCellMapping;
+  private final int[] numberMapping;
+  private final int[] inverseNumberMapping;
+
+  private CanonicalForm(int size, int[] encoding, int[] cellMapping, int[] numberMapping) {
+    this.size = size;
+    this.encoding = encoding;
+    this.cellMapping = cellMapping;
+    this.inverseCellMapping = new int[cellMapping.length];
+    for (int cell = 0; cell < cellMapping.length; cell++) {
+      inverseCellMapping[cellMapping[cell]] = cell;
+    }
+    this.numberMapping = numberMapping;
+    this.inverseNumberMapping = new int[numberMapping.length];
+    for (int number = 0; number < numberMapping.length; number++) {
+      inverseNumberMapping[numberMapping[number]] = number;
+    }
+  }
+
+  /**
+   * Returns the {@code CanonicalForm} of the given {@link Grid}.
+   *
+   * @param grid the {@link Grid}
+   * @return the {@code CanonicalForm} of {@code grid}
+   */
+  public static CanonicalForm of(Grid grid) {
+    int size = grid.getSize();
+    int numberOfCells = size * size;
+    int[] streams = new int[numberOfCells];
+    int[] numbers = new int[numberOfCells];
+    for (Cell cell : grid.getCells()) {
+      int index = cell.getRowIndex() * size + cell.getColumnIndex();
+      streams[index] = cell.getStreamIndex();
+      numbers[index] = cell.getNumber();
+    }
+
+    int[] bestEncoding = null;
+    int[] bestCellMapping = null;
+    int[] encoding = new int[2 * numberOfCells];
+    int[] cellMapping = new int[numberOfCells];
+
+    List<int[]> lineOrders = getLineOrders(size);
+    for (boolean transpose : new boolean[]{false, true}) {
+      for (int[] rowOrder : lineOrders) {
+        for (int[] columnOrder : lineOrders) {
+          mapCells(size, transpose, rowOrder, columnOrder, cellMapping);
+          encode(streams, numbers, cellMapping, encoding);
+          if (bestEncoding == null || compare(encoding, bestEncoding) < 0) {
+            bestEncoding = encoding.clone();
+            bestCellMapping = cellMapping.clone();
+          }
+        }
+      }
+    }
+
+    return new CanonicalForm(size, bestEncoding, bestCellMapping,
+        getNumberMapping(size, numbers, bestCellMapping));
+  }
+
+  // the orders rows or columns can be read in, every Sudoku band or stack order can also be used
+  private static List<int[]> getLineOrders(int size) {
+    List<int[]> lineOrders = new ArrayList<>();
+    if (size == SUDOKU_SIZE) {
+      for (int[] bandOrder : getPermutations(size / SUDOKU_BAND_SIZE)) {
+        lineOrders.add(getSudokuLineOrder(bandOrder, false));
+        lineOrders.add(getSudokuLineOrder(bandOrder, true));
+      }
+    } else {
+      int[] lineOrder = new int[size];
+      int[] reversedLineOrder = new int[size];
+      for (int line = 0; line < size; line++) {
+        lineOrder[line] = line;
+        reversedLineOrder[line] = size - 1 - line;
+      }
+      lineOrders.add(lineOrder);
+      lineOrders.add(reversedLineOrder);
+    }
+    return lineOrders;
+  }
+
+  private static int[] getSudokuLineOrder(int[] bandOrder, boolean reversed) {
+    int[] lineOrder = new int[SUDOKU_SIZE];
+    for (int line = 0; line < SUDOKU_SIZE; line++) {
+      int band = bandOrder[line / SUDOKU_BAND_SIZE];
+      int lineInBand = line % SUDOKU_BAND_SIZE;
+      if (reversed) {
+        lineInBand = SUDOKU_BAND_SIZE - 1 - lineInBand;
+      }
+      lineOrder[line] = band * SUDOKU_BAND_SIZE + lineInBand;
+    }
+    return lineOrder;
+  }
+
+  private static List<int[]> getPermutations(int length) {
+    List<int[]> permutations = new ArrayList<>();
+    addPermutations(new int[length], new boolean[length], 0, permutations);
+    return permutations;
+  }
+
+  private static void addPermutations(int[] permutation, boolean[] used, int index,
+      List<int[]> permutations) {
+    if (index == permutation.length) {
+      permutations.add(permutation.clone());
+      return;
+    }
+    for (int value = 0; value < permutation.length; value++) {
+      if (!used[value]) {
+        used[value] = true;
+        permutation[index] = value;
+        addPermutations(permutation, used, index + 1, permutations);
+        used[value] = false;
+      }
+    }
+  }
+
+  // cellMapping[canonical cell] is the grid cell read into it
+  private static void mapCells(int size, boolean transpose, int[] rowOrder, int[] columnOrder,
+      int[] cellMapping) {
+    for (int rowIndex = 0; rowIndex < size; rowIndex++) {
+      for (int columnIndex = 0; columnIndex < size; columnIndex++) {
+        int gridRowIndex = rowOrder[transpose ? columnIndex : rowIndex];
+        int gridColumnIndex = columnOrder[transpose ? rowIndex : columnIndex];
+        cellMapping[rowIndex * size + columnIndex] = gridRowIndex * size + gridColumnIndex;
+      }
+    }
+  }
+
+  // relabels the streams and numbers in the order they are first read
+  private static void encode(int[] streams, int[] numbers, int[] cellMapping, int[] encoding) {
+    int numberOfCells = cellMapping.length;
+    int[] streamLabels = new int[numberOfCells + 1];
+    int[] numberLabels = new int[numberOfCells + 1];
+    int nextStreamLabel = 1;
+    int nextNumberLabel = 1;
+
+    for (int cell = 0; cell < numberOfCells; cell++) {
+      int stream = streams[cellMapping[cell]];
+      if (streamLabels[stream] == 0) {
+        streamLabels[stream] = nextStreamLabel++;
+      }
+      encoding[cell] = streamLabels[stream];
+
+      int number = numbers[cellMapping[cell]];
+      if (number != NO_NUMBER && numberLabels[number] == 0) {
+        numberLabels[number] = nextNumberLabel++;
+      }
+      encoding[numberOfCells + cell] = number == NO_NUMBER ? NO_NUMBER : numberLabels[number];
+    }
+  }
+
+  private static int compare(int[] encoding, int[] otherEncoding) {
+    for (int i = 0; i < encoding.length; i++) {
+      if (encoding[i] != otherEncoding[i]) {
+        return Integer.compare(encoding[i], otherEncoding[i]);
+      }
+    }
+    return 0;
+  }
+
+  // numbers missing from the grid take the remaining labels in ascending order
+  private static int[] getNumberMapping(int size, int[] numbers, int[] cellMapping) {
+    int[] numberMapping = new int[size + 1];
+    int nextNumberLabel = 1;
+
+    for (int gridCell : cellMapping) {
+      int number = numbers[gridCell];
+      if (number != NO_NUMBER && numberMapping[number] == NO_NUMBER) {
+        numberMapping[number] = nextNumberLabel++;
+      }
+    }
+    for (int number = 1; number <= size; number++) {
+      if (numberMapping[number] == NO_NUMBER) {
+        numberMapping[number] = nextNumberLabel++;
+      }
+    }
+
+    return numberMapping;
+  }
+
+  /**
+   * Returns the size of the {@link Grid}.
+   *
+   * @return the size of the {@link Grid}
+   */
+  public int getSize() {
+    return size;
+  }
+
+  /**
+   * Returns the streams of the canonical {@link Grid}.
+   *
+   * @return the streams of the canonical {@link Grid}
+   */
+  public int[][] getStreams() {
+    return toArray(0);
+  }
+
+  /**
+   * Returns the numbers of the canonical {@link Grid}.
+   *
+   * @return the numbers of the canonical {@link Grid}
+   */
+  public int[][] getNumbers() {
+    return toArray(size * size);
+  }
+
+  private int[][] toArray(int offset) {
+    int[][] array = new int[size][size];
+    for (int rowIndex = 0; rowIndex < size; rowIndex++) {
+      System.arraycopy(encoding, offset + rowIndex * size, array[rowIndex], 0, size);
+    }
+    return array;
+  }
+
+  /**
+   * Returns a 64-bit hash of this {@code CanonicalForm}, which is the same for every {@link Grid}
+   * that is the same puzzle up to symmetry.
+   *
+   * @return a 64-bit hash of this {@code CanonicalForm}
+   */
+  public long getKey() {
+    long hash = update(FNV_OFFSET_BASIS, size);
+    for (int value : encoding) {
+      hash = update(hash, value);
+    }
+    return mix(hash);
+  }
+
+  private static long update(long hash, int value) {
+    return (hash ^ value) * FNV_PRIME;
+  }
+
+  // spreads the bits of the hash (the finalizer from SplitMix64)
+  private static long mix(long hash) {
+    long mixed = (hash ^ (hash >>> 30)) * 0xbf58476d1ce4e5b9L;
+    mixed = (mixed ^ (mixed >>> 27)) * 0x94d049bb133111ebL;
+    return mixed ^ (mixed >>> 31);
+  }
+
+  /**
+   * Maps a {@link Position} in the {@link Grid} to its {@link Position} in the canonical {@link
+   * Grid}.
+   *
+   * @param position the {@link Position} in the {@link Grid}
+   * @return the {@link Position} in the canonical {@link Grid}
+   */
+  public Position toCanonical(Position position) {
+    int cell = inverseCellMapping[position.getRowIndex() * size + position.getColumnIndex()];
+    return new Position(cell / size, cell % size);
+  }
+
+  /**
+   * Maps a solution of the {@link Grid} to the solution of the canonical {@link Grid}.
+   *
+   * @param solution the solution of the {@link Grid}
+   * @return the solution of the canonical {@link Grid}
+   */
+  public int[][] toCanonical(int[][] solution) {
+    int[][] canonicalSolution = new int[size][size];
+    for (int cell = 0; cell < cellMapping.length; cell++) {
+      int gridCell = cellMapping[cell];
+      int number = solution[gridCell / size][gridCell % size];
+      canonicalSolution[cell / size][cell % size] = numberMapping[number];
+    }
+    return canonicalSolution;
+  }
+
+  /**
+   * Maps a {@link Position} in the canonical {@link Grid} to its {@link Position} in the {@link
+   * Grid}.
+   *
+   * @param position the {@link Position} in the canonical {@link Grid}
+   * @return the {@link Position} in the {@link Grid}
+   */
+  public Position fromCanonical(Position position) {
+    int gridCell = cellMapping[position.getRowIndex() * size + position.getColumnIndex()];
+    return new Position(gridCell / size, gridCell % size);
+  }
+
+  /**
+   * Maps a solution of the canonical {@link Grid} to the solution of the {@link Grid}.
+   *
+   * @param canonicalSolution the solution of the canonical {@link Grid}
+   * @return the solution of the {@link Grid}
+   */
+  public int[][] fromCanonical(int[][] canonicalSolution) {
+    int[][] solution = new int[size][size];
+    for (int cell = 0; cell < cellMapping.length; cell++) {
+      int gridCell = cellMapping[cell];
+      int number = canonicalSolution[cell / size][cell % size];
+      solution[gridCell / size][gridCell % size] = inverseNumberMapping[number];
+    }
+    return solution;
+  }
+
+  @Override
+  public int hashCode() {
+    return 31 * size + Arrays.hashCode(encoding);
+  }
+
+  @Override
+  public boolean equals(Object obj) {
+    if (this == obj) {
+      return true;
+    }
+    if (obj == null) {
+      return false;
+    }
+    if (getClass() != obj.getClass()) {
+      return false;
+    }
+    CanonicalForm other = (CanonicalForm) obj;
+    return size == other.size && Arrays.equals(encoding, other.encoding);
+  }
+
+}
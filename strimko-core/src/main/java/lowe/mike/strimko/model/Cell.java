@@ -0,0 +1,368 @@
+package lowe.mike.strimko.model;
+
+import static lowe.mike.strimko.model.Constants.NO_NUMBER;
+import static lowe.mike.strimko.model.Zobrist.cellKey;
+import static lowe.mike.strimko.model.Zobrist.numberKey;
+import static lowe.mike.strimko.model.Zobrist.possibleNumberKey;
+
+import java.util.AbstractSet;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.HashSet;
+import java.util.Iterator;
+import java.util.List;
+import java.util.Set;
+import java.util.function.LongConsumer;
+
+/**
+ * {@code Cell} instances are to intended to provide information about cells that make up a {@link
+ * Grid}.
+ *
+ * <p>Information about the {@code Cell} includes the row index, the column index, the stream
+ * index, the number contained in the {@code Cell}, if the {@code Cell} is set, a {@link Set} of
+ * possible numbers and if the {@code Cell} is locked.
+ *
+ * <p>Changes to the number and to the possible numbers can be listened to with {@link
+ * #addNumberListener(NumberListener)} and {@link #addPossibleNumbersListener(Runnable)}.
+ *
+ * <p>A {@link Zobrist} hash of the {@code Cell} is kept up to date as its number and possible
+ * numbers change, so hashing a {@code Cell} does not need to look at its possible numbers and most
+ * unequal {@code Cell}s can be told apart without comparing them.
+ *
+ * @author Mike Lowe
+ */
+public final class Cell {
+
+  private final int rowIndex;
+  private final int columnIndex;
+  private final int streamIndex;
+  private int number;
+  private final Set<Integer> possibleNumbers = new PossibleNumbers();
+  private final boolean isLocked;
+  private long zobristHash;
+  private final List<NumberListener> numberListeners = new ArrayList<>();
+  private final List<Runnable> possibleNumbersListeners = new ArrayList<>();
+  private final List<LongConsumer> zobristHashListeners = new ArrayList<>();
+
+  /**
+   * Creates a new {@code Cell} instance given the row index, the column index, the stream index,
+   * the number and a {@link Collection} of possible numbers.
+   *
+   * @param rowIndex the row index
+   * @param columnIndex the column index
+   * @param streamIndex the stream index
+   * @param number the number
+   * @param possibleNumbers a {@link Collection} of possible numbers
+   * @return a {@code Cell} instance
+   */
+  public static Cell newInstance(int rowIndex, int columnIndex, int streamIndex, int number,
+      Collection<Integer> possibleNumbers) {
+    return new Cell(rowIndex, columnIndex, streamIndex, number, possibleNumbers);
+  }
+
+  /**
+   * Creates a new {@code Cell} instance from an existing instance.
+   *
+   * @param cell the existing {@code Cell} instance
+   * @return a new {@code Cell} instance copied from an existing instance
+   */
+  public static Cell copyOf(Cell cell) {
+    return new Cell(cell);
+  }
+
+  private Cell(int rowIndex, int columnIndex, int streamIndex, int number,
+      Collection<Integer> possibleNumbers) {
+    this.rowIndex = rowIndex;
+    this.columnIndex = columnIndex;
+    this.streamIndex = streamIndex;
+    this.number = number;
+    this.isLocked = isSet();
+    this.zobristHash = cellKey(rowIndex, columnIndex, streamIndex, this.isLocked)
+        ^ numberKey(rowIndex, columnIndex, number);
+    this.possibleNumbers.addAll(possibleNumbers);
+  }
+
+  private Cell(Cell cell) {
+    this.rowIndex = cell.getRowIndex();
+    this.columnIndex = cell.getColumnIndex();
+    this.streamIndex = cell.getStreamIndex();
+    this.number = cell.getNumber();
+    this.isLocked = cell.isLocked;
+    this.zobristHash = cellKey(this.rowIndex, this.columnIndex, this.streamIndex, this.isLocked)
+        ^ numberKey(this.rowIndex, this.columnIndex, this.number);
+    this.possibleNumbers.addAll(cell.getPossibleNumbers());
+  }
+
+  /**
+   * Returns this {@code Cell}'s row index.
+   *
+   * @return this {@code Cell}'s row index
+   */
+  public int getRowIndex() {
+    return rowIndex;
+  }
+
+  /**
+   * Returns this {@code Cell}'s column index.
+   *
+   * @return this {@code Cell}'s column index
+   */
+  public int getColumnIndex() {
+    return columnIndex;
+  }
+
+  /**
+   * Returns this {@code Cell}'s stream index.
+   *
+   * @return this {@code Cell}'s stream index
+   */
+  public int getStreamIndex() {
+    return streamIndex;
+  }
+
+  /**
+   * Returns this {@code Cell}'s number, 0 if it is not set.
+   *
+   * @return this {@code Cell}'s number, 0 if it is not set
+   */
+  public int getNumber() {
+    return number;
+  }
+
+  /**
+   * Sets the number of this {@code Cell}, if it is not locked.
+   *
+   * @param number the number to set
+   */
+  public void setNumber(int number) {
+    if (!isLocked && this.number != number) {
+      int oldNumber = this.number;
+      this.number = number;
+      updateZobristHash(numberKey(rowIndex, columnIndex, oldNumber)
+          ^ numberKey(rowIndex, columnIndex, number));
+      notifyNumberListeners(oldNumber, number);
+    }
+  }
+
+  private void notifyNumberListeners(int oldNumber, int newNumber) {
+    for (NumberListener listener : numberListeners) {
+      listener.numberChanged(oldNumber, newNumber);
+    }
+  }
+
+  /**
+   * Adds a {@link NumberListener} which is notified whenever this {@code Cell}'s number changes.
+   *
+   * @param listener the {@link NumberListener} to add
+   */
+  public void addNumberListener(NumberListener listener) {
+    numberListeners.add(listener);
+  }
+
+  /**
+   * Clears the number from this {@code Cell}, if it is not locked.
+   */
+  public void clearNumber() {
+    setNumber(NO_NUMBER);
+  }
+
+  /**
+   * Returns {@code true} if this {@code Cell}'s number has been set; {@code false} otherwise.
+   *
+   * @return {@code true} if this {@code Cell}'s number has been set; {@code false} otherwise
+   */
+  public boolean isSet() {
+    return number > NO_NUMBER;
+  }
+
+  /**
+   * Returns this {@code Cell}'s {@link Set} of possible numbers.
+   *
+   * @return this {@code Cell}'s {@link Set} of possible numbers
+   */
+  public Set<Integer> getPossibleNumbers() {
+    return possibleNumbers;
+  }
+
+  /**
+   * Adds a listener which is run whenever this {@code Cell}'s possible numbers change.
+   *
+   * @param listener the listener to add
+   */
+  public void addPossibleNumbersListener(Runnable listener) {
+    possibleNumbersListeners.add(listener);
+  }
+
+  private void notifyPossibleNumbersListeners() {
+    for (Runnable listener : possibleNumbersListeners) {
+      listener.run();
+    }
+  }
+
+  /**
+   * Returns the {@link Zobrist} hash of this {@code Cell}'s row index, column index, stream index,
+   * number, possible numbers and if it is locked.
+   *
+   * @return the {@link Zobrist} hash of this {@code Cell}
+   */
+  long getZobristHash() {
+    return zobristHash;
+  }
+
+  /**
+   * Adds a listener which is given the exclusive or of the old and new {@link Zobrist} hashes
+   * whenever this {@code Cell}'s {@link Zobrist} hash changes.
+   *
+   * @param listener the listener to add
+   */
+  void addZobristHashListener(LongConsumer listener) {
+    zobristHashListeners.add(listener);
+  }
+
+  private void updateZobristHash(long change) {
+    zobristHash ^= change;
+    for (LongConsumer listener : zobristHashListeners) {
+      listener.accept(change);
+    }
+  }
+
+  private void possibleNumberChanged(int possibleNumber) {
+    updateZobristHash(possibleNumberKey(rowIndex, columnIndex, possibleNumber));
+    notifyPossibleNumbersListeners();
+  }
+
+  /**
+   * Returns {@code true} if this {@code Cell} is locked; {@code false} otherwise.
+   *
+   * @return {@code true} if this {@code Cell} is locked; {@code false} otherwise
+   */
+  public boolean isLocked() {
+    return isLocked;
+  }
+
+  @Override
+  public int hashCode() {
+    return Long.hashCode(zobristHash);
+  }
+
+  @Override
+  public boolean equals(Object obj) {
+    if (this == obj) {
+      return true;
+    }
+    if (obj == null) {
+      return false;
+    }
+    if (getClass() != obj.getClass()) {
+      return false;
+    }
+    Cell other = (Cell) obj;
+    if (zobristHash != other.zobristHash) {
+      return false;
+    }
+    if (getRowIndex() != other.getRowIndex()) {
+      return false;
+    }
+    if (getColumnIndex() != other.getColumnIndex()) {
+      return false;
+    }
+    if (getStreamIndex() != other.getStreamIndex()) {
+      return false;
+    }
+    if (getNumber() != other.getNumber()) {
+      return false;
+    }
+    if (getPossibleNumbers() == null) {
+      if (other.getPossibleNumbers() != null) {
+        return false;
+      }
+    } else if (!getPossibleNumbers().equals(other.getPossibleNumbers())) {
+      return false;
+    }
+    return isLocked() == other.isLocked();
+  }
+
+  /**
+   * {@code NumberListener} instances are notified when the number of a {@link Cell} changes.
+   *
+   * @author Mike Lowe
+   */
+  @FunctionalInterface
+  public interface NumberListener {
+
+    /**
+     * Called when the number of a {@link Cell} changes.
+     *
+     * @param oldNumber the old number
+     * @param newNumber the new number
+     */
+    void numberChanged(int oldNumber, int newNumber);
+
+  }
+
+  /**
+   * {@link Set} of possible numbers which notifies the possible numbers listeners whenever a number
+   * is added or removed.
+   */
+  private final class PossibleNumbers extends AbstractSet<Integer> {
+
+    private final Set<Integer> numbers = new HashSet<>();
+
+    @Override
+    public boolean add(Integer number) {
+      boolean changed = numbers.add(number);
+      if (changed) {
+        possibleNumberChanged(number);
+      }
+      return changed;
+    }
+
+    @Override
+    public boolean remove(Object number) {
+      boolean changed = numbers.remove(number);
+      if (changed) {
+        possibleNumberChanged((Integer) number);
+      }
+      return changed;
+    }
+
+    @Override
+    public boolean contains(Object number) {
+      return numbers.contains(number);
+    }
+
+    @Override
+    public Iterator<Integer> iterator() {
+      Iterator<Integer> iterator = numbers.iterator();
+      return new Iterator<Integer>() {
+
+        private Integer current;
+
+        @Override
+        public boolean hasNext() {
+          return iterator.hasNext();
+        }
+
+        @Override
+        public Integer next() {
+          current = iterator.next();
+          return current;
+        }
+
+        @Override
+        public void remove() {
+          iterator.remove();
+          possibleNumberChanged(current);
+        }
+
+      };
+    }
+
+    @Override
+    public int size() {
+      return numbers.size();
+    }
+
+  }
+
+}
@@ -10,6 +10,10 @@ import static lowe.mike.strimko.model.Constants.USER_PUZZLE_DIRECTORY;
 import static lowe.mike.strimko.model.Constants.getSudokuStreams;
 import static lowe.mike.strimko.model.Type.STRIMKO;
 
+import java.io.BufferedInputStream;
+import java.io.BufferedOutputStream;
+import java.io.DataInputStream;
+import java.io.DataOutputStream;
 import java.io.File;
 import java.io.IOException;
 import java.io.InputStream;
@@ -22,7 +26,10 @@ import java.util.InputMismatchException;
 import java.util.List;
 import java.util.NoSuchElementException;
 import java.util.Scanner;
+import java.util.concurrent.CancellationException;
+import java.util.function.BooleanSupplier;
 import lowe.mike.strimko.model.Grid.GridBuilder;
+import lowe.mike.strimko.model.solver.SolvingResultCache;
 
 /**
  * {@code FileHandler} provides useful methods for interacting with puzzle files.
@@ -34,6 +41,7 @@ import lowe.mike.strimko.model.Grid.GridBuilder;
 public final class FileHandler {
 
   private static final String EXTENSION = ".txt";
+  private static final String SOLVING_RESULTS_FILE_NAME = "solving-results.bin";
 
   // don't want instances
   private FileHandler() {
@@ -145,6 +153,25 @@ public final class FileHandler {
     return validPuzzleFileNames;
   }
 
+  /**
+   * Returns a {@link List} of paths to the puzzle files given the puzzle directory, {@link Type}
+   * and {@link Difficulty}, in the same order as their names are listed.
+   *
+   * @param puzzleDirectory the directory where the puzzles are stored
+   * @param type the {@link Type}
+   * @param difficulty the {@link Difficulty}
+   * @return the {@link List} of paths to puzzle files
+   * @throws FileHandlingException if the puzzle files could not be listed
+   */
+  public static List<Path> listPuzzleFiles(String puzzleDirectory, Type type,
+      Difficulty difficulty) throws FileHandlingException {
+    List<Path> puzzleFiles = new ArrayList<>();
+    for (String name : listPuzzleFileNames(puzzleDirectory, type, difficulty)) {
+      puzzleFiles.add(getPathToFileToReadPuzzleFrom(puzzleDirectory, type, difficulty, name));
+    }
+    return puzzleFiles;
+  }
+
   private static Path getPathToPuzzleSubDirectory(String puzzleDirectory, Type type,
       Difficulty difficulty) {
     return get(puzzleDirectory, type.toString(), difficulty.toString());
@@ -222,6 +249,23 @@ public final class FileHandler {
     return read(USER_PUZZLE_DIRECTORY, type, difficulty, name);
   }
 
+  /**
+   * Reads a {@link Puzzle} from a file given the {@link Puzzle}'s {@link Type}, {@link Difficulty}
+   * and name, giving up on solving it once {@code shouldStop} returns {@code true}.
+   *
+   * @param type the {@link Type}
+   * @param difficulty the {@link Difficulty}
+   * @param name the name of the {@link Puzzle}
+   * @param shouldStop returns {@code true} when solving should stop, in which case a {@link
+   *     CancellationException} is thrown
+   * @return the {@link Puzzle}
+   * @throws FileHandlingException if a {@link Puzzle} could not be read from the file
+   */
+  public static Puzzle read(Type type, Difficulty difficulty, String name,
+      BooleanSupplier shouldStop) throws FileHandlingException {
+    return read(USER_PUZZLE_DIRECTORY, type, difficulty, name, shouldStop);
+  }
+
   /**
    * Reads a {@link Puzzle} from a file given the puzzle directory, the {@link Puzzle}'s {@link
    * Type}, {@link Difficulty} and name.
@@ -235,14 +279,29 @@ public final class FileHandler {
    */
   static Puzzle read(String puzzleDirectory, Type type, Difficulty difficulty, String name)
       throws FileHandlingException {
+    return read(puzzleDirectory, type, difficulty, name, () -> false);
+  }
+
+  /**
+   * Reads a {@link Puzzle} from a file given the puzzle directory, the {@link Puzzle}'s {@link
+   * Type}, {@link Difficulty} and name, giving up on solving it once {@code shouldStop} returns
+   * {@code true}.
+   *
+   * @param puzzleDirectory the directory where the puzzles are stored
+   * @param type the {@link Type}
+   * @param difficulty the {@link Difficulty}
+   * @param name the name of the {@link Puzzle}
+   * @param shouldStop returns {@code true} when solving should stop, in which case a {@link
+   *     CancellationException} is thrown
+   * @return the {@link Puzzle}
+   * @throws FileHandlingException if a {@link Puzzle} could not be read from the file
+   */
+  static Puzzle read(String puzzleDirectory, Type type, Difficulty difficulty, String name,
+      BooleanSupplier shouldStop) throws FileHandlingException {
     Path pathToFileToReadFrom = getPathToFileToReadPuzzleFrom(puzzleDirectory, type, difficulty,
         name);
-    try (Scanner scanner = new Scanner(pathToFileToReadFrom)) {
-      Grid grid = readGrid(scanner, type);
-      return createPuzzle(type, grid);
-    } catch (IOException e) {
-      throw new FileHandlingException("Could not read '" + pathToFileToReadFrom + "'");
-    }
+    Grid grid = readGrid(pathToFileToReadFrom, type);
+    return createPuzzle(type, grid, shouldStop);
   }
 
   private static Path getPathToFileToReadPuzzleFrom(String puzzleDirectory, Type type,
@@ -252,6 +311,23 @@ public final class FileHandler {
         name + EXTENSION);
   }
 
+  /**
+   * Reads a {@link Grid} from a puzzle file given the path to the file and the {@link Type} of
+   * puzzle it contains. Unlike reading a {@link Puzzle}, the {@link Grid} is not solved.
+   *
+   * @param pathToPuzzle the path to the puzzle file
+   * @param type the {@link Type}
+   * @return the {@link Grid}
+   * @throws FileHandlingException if a {@link Grid} could not be read from the file
+   */
+  public static Grid readGrid(Path pathToPuzzle, Type type) throws FileHandlingException {
+    try (Scanner scanner = new Scanner(pathToPuzzle)) {
+      return readGrid(scanner, type);
+    } catch (IOException e) {
+      throw new FileHandlingException("Could not read '" + pathToPuzzle + "'");
+    }
+  }
+
   private static Grid readGrid(Scanner scanner, Type type) throws FileHandlingException {
     boolean isStrimko = type == STRIMKO;
     int size = (isStrimko) ? readNextInt(scanner) : SUDOKU_SIZE;
@@ -292,9 +368,10 @@ public final class FileHandler {
     }
   }
 
-  private static Puzzle createPuzzle(Type type, Grid grid) throws FileHandlingException {
+  private static Puzzle createPuzzle(Type type, Grid grid, BooleanSupplier shouldStop)
+      throws FileHandlingException {
     try {
-      return new Puzzle(type, grid);
+      return new Puzzle(type, grid, shouldStop);
     } catch (IllegalArgumentException e) {
       throw new FileHandlingException("Puzzle could not be read from file: " + e.getMessage());
     }
@@ -333,6 +410,44 @@ public final class FileHandler {
     return fileName;
   }
 
+  /**
+   * Returns the name of a saved {@link Puzzle} that is the same as the given {@link Puzzle} up to
+   * symmetry or {@code null} if there isn't one.
+   *
+   * @param puzzle the {@link Puzzle}
+   * @return the name of the duplicate {@link Puzzle} or {@code null} if there isn't one
+   * @throws FileHandlingException if the saved {@link Puzzle}s could not be read
+   * @see CanonicalForm
+   */
+  public static String findDuplicate(Puzzle puzzle) throws FileHandlingException {
+    return findDuplicate(USER_PUZZLE_DIRECTORY, puzzle);
+  }
+
+  /**
+   * Returns the name of a {@link Puzzle} in the puzzle directory that is the same as the given
+   * {@link Puzzle} up to symmetry or {@code null} if there isn't one.
+   *
+   * @param puzzleDirectory the directory where the puzzles are stored
+   * @param puzzle the {@link Puzzle}
+   * @return the name of the duplicate {@link Puzzle} or {@code null} if there isn't one
+   * @throws FileHandlingException if the {@link Puzzle}s could not be read
+   * @see CanonicalForm
+   */
+  static String findDuplicate(String puzzleDirectory, Puzzle puzzle)
+      throws FileHandlingException {
+    Type type = puzzle.getType();
+    Difficulty difficulty = puzzle.getDifficulty();
+    CanonicalForm canonicalForm = CanonicalForm.of(puzzle.getGrid());
+
+    for (String name : listPuzzleFileNames(puzzleDirectory, type, difficulty)) {
+      Path pathToPuzzle = getPathToFileToReadPuzzleFrom(puzzleDirectory, type, difficulty, name);
+      if (canonicalForm.equals(CanonicalForm.of(readGrid(pathToPuzzle, type)))) {
+        return name;
+      }
+    }
+    return null;
+  }
+
   private static String getNextAvailableFileName(Path pathToPuzzleSubDirectory, Type type)
       throws FileHandlingException {
     Collection<String> puzzleFileNames = getValidPuzzleFileNames(pathToPuzzleSubDirectory);
@@ -385,4 +500,70 @@ public final class FileHandler {
     }
   }
 
+  /**
+   * Reads previously written solving results from the user directory into a {@link
+   * SolvingResultCache}. Nothing is read if no solving results have been written.
+   *
+   * @param cache the {@link SolvingResultCache} to read into
+   * @throws FileHandlingException if the solving results could not be read
+   */
+  public static void readSolvingResults(SolvingResultCache cache) throws FileHandlingException {
+    readSolvingResults(USER_PUZZLE_DIRECTORY, cache);
+  }
+
+  /**
+   * Reads previously written solving results from the puzzle directory into a {@link
+   * SolvingResultCache}. Nothing is read if no solving results have been written.
+   *
+   * @param puzzleDirectory the directory where the puzzles are stored
+   * @param cache the {@link SolvingResultCache} to read into
+   * @throws FileHandlingException if the solving results could not be read
+   */
+  static void readSolvingResults(String puzzleDirectory, SolvingResultCache cache)
+      throws FileHandlingException {
+    Path pathToSolvingResults = get(puzzleDirectory, SOLVING_RESULTS_FILE_NAME);
+    if (!Files.exists(pathToSolvingResults)) {
+      return;
+    }
+
+    try (DataInputStream input = new DataInputStream(
+        new BufferedInputStream(Files.newInputStream(pathToSolvingResults)))) {
+      cache.readFrom(input);
+    } catch (IOException | UnsupportedOperationException | SecurityException e) {
+      throw new FileHandlingException(
+          "Could not read solving results from '" + pathToSolvingResults + "'");
+    }
+  }
+
+  /**
+   * Writes the solving results held by a {@link SolvingResultCache} to the user directory.
+   *
+   * @param cache the {@link SolvingResultCache} to write
+   * @throws FileHandlingException if the solving results could not be written
+   */
+  public static void writeSolvingResults(SolvingResultCache cache) throws FileHandlingException {
+    writeSolvingResults(USER_PUZZLE_DIRECTORY, cache);
+  }
+
+  /**
+   * Writes the solving results held by a {@link SolvingResultCache} to the puzzle directory.
+   *
+   * @param puzzleDirectory the directory where the puzzles are stored
+   * @param cache the {@link SolvingResultCache} to write
+   * @throws FileHandlingException if the solving results could not be written
+   */
+  static void writeSolvingResults(String puzzleDirectory, SolvingResultCache cache)
+      throws FileHandlingException {
+    Path pathToSolvingResults = get(puzzleDirectory, SOLVING_RESULTS_FILE_NAME);
+    makeParentDirectory(pathToSolvingResults);
+
+    try (DataOutputStream output = new DataOutputStream(
+        new BufferedOutputStream(Files.newOutputStream(pathToSolvingResults)))) {
+      cache.writeTo(output);
+    } catch (IOException | UnsupportedOperationException | SecurityException e) {
+      throw new FileHandlingException(
+          "Could not write solving results to '" + pathToSolvingResults + "'");
+    }
+  }
+
 }
@@ -1,6 +1,5 @@
 package lowe.mike.strimko.model;
 
-import static com.google.common.collect.LinkedHashMultimap.create;
 import static java.util.Arrays.deepEquals;
 import static java.util.Objects.hash;
 import static lowe.mike.strimko.model.Cell.newInstance;
@@ -12,19 +11,14 @@ import static lowe.mike.strimko.model.Validation.checkStreamIndex;
 import static lowe.mike.strimko.model.Validation.checkStreams;
 import static lowe.mike.strimko.model.Validation.checkUniqueNumbersInGroups;
 
-import com.google.common.collect.Multimap;
+import com.google.common.primitives.Ints;
 import java.util.ArrayList;
 import java.util.Arrays;
 import java.util.Collection;
-import java.util.HashMap;
-import java.util.HashSet;
+import java.util.Collections;
+import java.util.LinkedHashSet;
 import java.util.List;
-import java.util.Map;
 import java.util.TreeSet;
-import javafx.beans.property.ReadOnlyBooleanProperty;
-import javafx.beans.property.ReadOnlyBooleanWrapper;
-import javafx.beans.property.ReadOnlyIntegerProperty;
-import javafx.beans.property.ReadOnlyIntegerWrapper;
 
 /**
  * {@code Grid} instances are intended to provide information about grids which make up {@link
@@ -40,14 +34,48 @@ public final class Grid {
 
   /**
    * Used for easy iteration over cells so it's much simpler to iterate over a specific row, column
-   * or stream.
+   * or stream. Rows and columns are indexed by row and column index and streams by stream index,
+   * with the stream indexes in the order their streams first appear kept in {@code streamOrder}.
    */
-  private final Multimap<Integer, Cell> rows = create();
-  private final Multimap<Integer, Cell> columns = create();
-  private final Multimap<Integer, Cell> streams = create();
+  private final Cell[][] rows;
+  private final Cell[][] columns;
+  private final Cell[][] streams;
+  private final int[] streamSizes;
+  private final int[] streamOrder;
+  private int numberOfStreams;
 
-  private final Map<Integer, ReadOnlyIntegerWrapper> numberOccurrences = new HashMap<>();
-  private final ReadOnlyBooleanWrapper isSolved = new ReadOnlyBooleanWrapper();
+  /**
+   * The indexes, in row-major order, of the distinct cells sharing a row, column or stream with
+   * each cell. These never change so are shared between copies.
+   */
+  private final int[][] peers;
+
+  /**
+   * Used to keep track of how many times each number occurs in each row, column and stream so that
+   * possible numbers can be updated incrementally when a number changes.
+   */
+  private final int[][] rowNumberOccurrences;
+  private final int[][] columnNumberOccurrences;
+  private final int[][] streamNumberOccurrences;
+
+  /**
+   * Bitmasks of the numbers in each row, column and stream, bit n - 1 being set if n occurs, and
+   * the number of rows, columns and streams containing every number. As each group has as many
+   * cells as there are numbers, the grid is solved once every group contains every number.
+   */
+  private final int allNumbers;
+  private final int[] rowNumbers;
+  private final int[] columnNumbers;
+  private final int[] streamNumbers;
+  private int numberOfCompletedGroups;
+
+  private final int[] numberOccurrences;
+
+  /**
+   * The exclusive or of the {@link Zobrist} hashes of the cells, kept up to date as they change so
+   * that hashing is cheap and most unequal grids can be told apart without comparing every cell.
+   */
+  private long zobristHash;
 
   /**
    * Creates a new {@code Grid} instance from an existing instance.
@@ -59,13 +87,41 @@ public final class Grid {
     return new Grid(grid);
   }
 
-  private Grid(int size, int[][] streams, int[][] numbers) {
+  private Grid(int size, int[][] streams, int[][] numbers, int[][] peers) {
     this.size = size;
+    this.peers = peers;
+    this.numberOccurrences = new int[this.size + 1];
+    this.rowNumberOccurrences = new int[this.size][this.size + 1];
+    this.columnNumberOccurrences = new int[this.size][this.size + 1];
+    this.streamNumberOccurrences = new int[this.size + 1][this.size + 1];
+    this.allNumbers = (1 << this.size) - 1;
+    this.rowNumbers = new int[this.size];
+    this.columnNumbers = new int[this.size];
+    this.streamNumbers = new int[this.size + 1];
+    this.rows = new Cell[this.size][this.size];
+    this.columns = new Cell[this.size][this.size];
+    this.streams = new Cell[this.size + 1][];
+    this.streamSizes = new int[this.size + 1];
+    this.streamOrder = new int[this.size];
     initialize(streams, numbers);
   }
 
   private Grid(Grid grid) {
     this.size = grid.getSize();
+    this.peers = grid.peers;
+    this.numberOccurrences = new int[this.size + 1];
+    this.rowNumberOccurrences = new int[this.size][this.size + 1];
+    this.columnNumberOccurrences = new int[this.size][this.size + 1];
+    this.streamNumberOccurrences = new int[this.size + 1][this.size + 1];
+    this.allNumbers = (1 << this.size) - 1;
+    this.rowNumbers = new int[this.size];
+    this.columnNumbers = new int[this.size];
+    this.streamNumbers = new int[this.size + 1];
+    this.rows = new Cell[this.size][this.size];
+    this.columns = new Cell[this.size][this.size];
+    this.streams = new Cell[this.size + 1][];
+    this.streamSizes = new int[this.size + 1];
+    this.streamOrder = new int[this.size];
     initializeCopy(grid);
   }
 
@@ -76,7 +132,6 @@ public final class Grid {
   private void initialize(int[][] streams, int[][] numbers) {
     initializeRangeOfPossibleNumbers();
     initializeCells(streams, numbers);
-    initializeIsSolved();
     initializeNumberOccurrences();
     initializePossibleNumbers();
     checkUniqueNumbersInGroups(this);
@@ -102,69 +157,63 @@ public final class Grid {
 
   private void addCellToCollections(Cell cell, int rowIndex, int columnIndex, int streamIndex) {
     cells.add(cell);
-    rows.put(rowIndex, cell);
-    columns.put(columnIndex, cell);
-    streams.put(streamIndex, cell);
+    zobristHash ^= cell.getZobristHash();
+    rows[rowIndex][columnIndex] = cell;
+    columns[columnIndex][rowIndex] = cell;
+    if (streams[streamIndex] == null) {
+      streams[streamIndex] = new Cell[size];
+      streamOrder[numberOfStreams++] = streamIndex;
+    }
+    streams[streamIndex][streamSizes[streamIndex]++] = cell;
   }
 
   private void addCellChangeListener(Cell cell) {
-    cell.numberProperty().addListener((observable, oldValue, newValue) -> {
-      int oldNumber = (int) oldValue;
-      int newNumber = (int) newValue;
-      updateIsSolved();
+    cell.addNumberListener((oldNumber, newNumber) -> {
       updateNumberOccurrences(oldNumber, newNumber);
-      updatePossibleNumbers(cell, oldNumber);
+      updatePossibleNumbers(cell, oldNumber, newNumber);
     });
+    cell.addZobristHashListener(change -> zobristHash ^= change);
   }
 
-  private void initializeIsSolved() {
-    updateIsSolved();
-  }
-
-  private void updateIsSolved() {
-    isSolved.set(checkIsSolved());
-  }
-
-  private boolean checkIsSolved() {
-    return containsAllNumbers(getRows()) && containsAllNumbers(getColumns()) && containsAllNumbers(
-        getStreams());
-  }
-
-  private boolean containsAllNumbers(Collection<Collection<Cell>> group) {
-    for (Collection<Cell> cells : group) {
-      Collection<Integer> numbersInGroup = new HashSet<>();
-      for (Cell cell : cells) {
-        int number = cell.getNumber();
-        if (!cell.isSet() || number > size || numbersInGroup.contains(number)) {
-          return false;
-        }
-        numbersInGroup.add(number);
+  private void initializeNumberOccurrences() {
+    for (Cell cell : getCells()) {
+      int number = cell.getNumber();
+      numberOccurrences[number]++;
+      if (cell.isSet()) {
+        updateGroupNumberOccurrences(cell, number, 1);
       }
     }
-    return true;
   }
 
-  private void initializeNumberOccurrences() {
-    for (int number : rangeOfPossibleNumbers) {
-      numberOccurrences.put(number, new ReadOnlyIntegerWrapper());
-    }
-    numberOccurrences.put(NO_NUMBER, new ReadOnlyIntegerWrapper());
-    countNumberOccurrences();
+  private void updateGroupNumberOccurrences(Cell cell, int number, int change) {
+    int rowIndex = cell.getRowIndex();
+    int columnIndex = cell.getColumnIndex();
+    int streamIndex = cell.getStreamIndex();
+    rowNumbers[rowIndex] = updateGroupNumbers(rowNumbers[rowIndex],
+        rowNumberOccurrences[rowIndex], number, change);
+    columnNumbers[columnIndex] = updateGroupNumbers(columnNumbers[columnIndex],
+        columnNumberOccurrences[columnIndex], number, change);
+    streamNumbers[streamIndex] = updateGroupNumbers(streamNumbers[streamIndex],
+        streamNumberOccurrences[streamIndex], number, change);
   }
 
-  private void countNumberOccurrences() {
-    for (Cell cell : getCells()) {
-      int number = cell.getNumber();
-      ReadOnlyIntegerWrapper numberOccurrence = numberOccurrences.get(number);
-      numberOccurrence.set(numberOccurrence.get() + 1);
+  private int updateGroupNumbers(int groupNumbers, int[] groupNumberOccurrences, int number,
+      int change) {
+    groupNumberOccurrences[number] += change;
+    int bit = 1 << (number - 1);
+    int newGroupNumbers = groupNumberOccurrences[number] > 0 ? groupNumbers | bit
+        : groupNumbers & ~bit;
+    if (groupNumbers == allNumbers && newGroupNumbers != allNumbers) {
+      numberOfCompletedGroups--;
+    } else if (groupNumbers != allNumbers && newGroupNumbers == allNumbers) {
+      numberOfCompletedGroups++;
     }
+    return newGroupNumbers;
   }
 
   private void updateNumberOccurrences(int oldNumber, int newNumber) {
-    ReadOnlyIntegerWrapper oldNumberOccurrence = numberOccurrences.get(oldNumber);
-    ReadOnlyIntegerWrapper newNumberOccurrence = numberOccurrences.get(newNumber);
-    oldNumberOccurrence.set(oldNumberOccurrence.get() - 1);
-    newNumberOccurrence.set(newNumberOccurrence.get() + 1);
+    numberOccurrences[oldNumber]--;
+    numberOccurrences[newNumber]++;
   }
 
   private void initializePossibleNumbers() {
@@ -181,40 +230,55 @@ public final class Grid {
     if (cell.isSet()) {
       cell.getPossibleNumbers().clear();
       int number = cell.getNumber();
-      int rowIndex = cell.getRowIndex();
-      int columnIndex = cell.getColumnIndex();
-      int streamIndex = cell.getStreamIndex();
-      removePossibleNumberFromCellsInGroup(number, getRow(rowIndex));
-      removePossibleNumberFromCellsInGroup(number, getColumn(columnIndex));
-      removePossibleNumberFromCellsInGroup(number, getStream(streamIndex));
+      for (int peer : getPeersOf(cell)) {
+        cells.get(peer).getPossibleNumbers().remove(number);
+      }
     }
   }
 
-  private void removePossibleNumberFromCellsInGroup(int possible, Collection<Cell> group) {
-    for (Cell cell : group) {
-      cell.getPossibleNumbers().remove(possible);
-    }
+  private int[] getPeersOf(Cell cell) {
+    return peers[cell.getRowIndex() * size + cell.getColumnIndex()];
   }
 
-  private void updatePossibleNumbers(Cell cell, int oldNumber) {
-    if (oldNumber == NO_NUMBER) {
-      updatePossibleNumbersInSameGroups(cell);
+  private void updatePossibleNumbers(Cell cell, int oldNumber, int newNumber) {
+    if (oldNumber != NO_NUMBER) {
+      updateGroupNumberOccurrences(cell, oldNumber, -1);
+      restorePossibleNumberInSameGroups(cell, oldNumber);
+    }
+    if (newNumber == NO_NUMBER) {
+      restorePossibleNumbers(cell);
     } else {
-      resetPossibleNumbersInAllCells();
-      updatePossibleNumbersInAllCells();
+      updateGroupNumberOccurrences(cell, newNumber, 1);
+      updatePossibleNumbersInSameGroups(cell);
     }
   }
 
-  private void resetPossibleNumbersInAllCells() {
-    for (Cell cell : getCells()) {
-      cell.getPossibleNumbers().addAll(rangeOfPossibleNumbers);
+  private void restorePossibleNumberInSameGroups(Cell cell, int possible) {
+    for (int peer : getPeersOf(cell)) {
+      Cell peerCell = cells.get(peer);
+      if (!peerCell.isSet() && isNumberFreeInSameGroups(peerCell, possible)) {
+        peerCell.getPossibleNumbers().add(possible);
+      }
     }
   }
 
+  private void restorePossibleNumbers(Cell cell) {
+    for (int possible : rangeOfPossibleNumbers) {
+      if (isNumberFreeInSameGroups(cell, possible)) {
+        cell.getPossibleNumbers().add(possible);
+      }
+    }
+  }
+
+  private boolean isNumberFreeInSameGroups(Cell cell, int number) {
+    return rowNumberOccurrences[cell.getRowIndex()][number] == 0
+        && columnNumberOccurrences[cell.getColumnIndex()][number] == 0
+        && streamNumberOccurrences[cell.getStreamIndex()][number] == 0;
+  }
+
   private void initializeCopy(Grid grid) {
     initializeRangeOfPossibleNumbers();
     initializeCopyOfCells(grid);
-    initializeIsSolved();
     initializeNumberOccurrences();
   }
 
@@ -252,8 +316,7 @@ public final class Grid {
    *     columnIndex}
    */
   public Cell getCell(int rowIndex, int columnIndex) {
-    int position = rowIndex * size + columnIndex;
-    return cells.get(position);
+    return rows[rowIndex][columnIndex];
   }
 
   /**
@@ -275,13 +338,28 @@ public final class Grid {
     return cells;
   }
 
+  /**
+   * Returns, for each cell index in row-major order, the indexes of the distinct cells sharing a
+   * row, column or stream with the cell. The table is shared between copies of this {@code Grid},
+   * so a copy of it is returned.
+   *
+   * @return the indexes of the cells sharing a row, column or stream with each cell
+   */
+  public int[][] getPeers() {
+    int[][] peersCopy = new int[peers.length][];
+    for (int cell = 0; cell < peers.length; cell++) {
+      peersCopy[cell] = peers[cell].clone();
+    }
+    return peersCopy;
+  }
+
   /**
    * Returns the {@link Collection} of rows.
    *
    * @return the {@link Collection} of rows
    */
   public Collection<Collection<Cell>> getRows() {
-    return rows.asMap().values();
+    return toCollections(rows, size);
   }
 
   /**
@@ -291,7 +369,7 @@ public final class Grid {
    * @return the {@link Collection} of {@link Cell}s with the given {@code rowIndex}
    */
   public Collection<Cell> getRow(int rowIndex) {
-    return rows.get(rowIndex);
+    return toCollection(rows[rowIndex]);
   }
 
   /**
@@ -300,7 +378,7 @@ public final class Grid {
    * @return the {@link Collection} of columns
    */
   public Collection<Collection<Cell>> getColumns() {
-    return columns.asMap().values();
+    return toCollections(columns, size);
   }
 
   /**
@@ -310,7 +388,7 @@ public final class Grid {
    * @return the {@link Collection} of {@link Cell}s with the given {@code columnIndex}
    */
   public Collection<Cell> getColumn(int columnIndex) {
-    return columns.get(columnIndex);
+    return toCollection(columns[columnIndex]);
   }
 
   /**
@@ -319,7 +397,11 @@ public final class Grid {
    * @return the {@link Collection} of streams
    */
   public Collection<Collection<Cell>> getStreams() {
-    return streams.asMap().values();
+    Collection<Collection<Cell>> streamsInOrder = new ArrayList<>(numberOfStreams);
+    for (int i = 0; i < numberOfStreams; i++) {
+      streamsInOrder.add(toCollection(streams[streamOrder[i]]));
+    }
+    return streamsInOrder;
   }
 
   /**
@@ -329,7 +411,22 @@ public final class Grid {
    * @return the {@link Collection} of {@link Cell}s with the given {@code streamIndex}
    */
   public Collection<Cell> getStream(int streamIndex) {
-    return streams.get(streamIndex);
+    if (streamIndex < 0 || streamIndex >= streams.length || streams[streamIndex] == null) {
+      return Collections.emptyList();
+    }
+    return toCollection(streams[streamIndex]);
+  }
+
+  private static Collection<Collection<Cell>> toCollections(Cell[][] groups, int numberOfGroups) {
+    Collection<Collection<Cell>> collections = new ArrayList<>(numberOfGroups);
+    for (int i = 0; i < numberOfGroups; i++) {
+      collections.add(toCollection(groups[i]));
+    }
+    return collections;
+  }
+
+  private static Collection<Cell> toCollection(Cell[] group) {
+    return Collections.unmodifiableList(Arrays.asList(group));
   }
 
   /**
@@ -339,19 +436,7 @@ public final class Grid {
    * @return the total occurrences of a number in this {@code Grid}
    */
   public int getNumberOccurrences(int number) {
-    return numberOccurrenceProperty(number).get();
-  }
-
-  /**
-   * Returns the {@link ReadOnlyIntegerProperty} indicating the number of times a number occurs in
-   * this {@code Grid}.
-   *
-   * @param number the number to return the property for
-   * @return the {@link ReadOnlyIntegerProperty} indicating the number of times a number occurs in
-   *     this {@code Grid}
-   */
-  public ReadOnlyIntegerProperty numberOccurrenceProperty(int number) {
-    return numberOccurrences.get(number).getReadOnlyProperty();
+    return numberOccurrences[number];
   }
 
   /**
@@ -360,23 +445,14 @@ public final class Grid {
    * @return {@code true} if this {@code Grid} is solved; {@code false} otherwise
    */
   public boolean isSolved() {
-    return isSolved.get();
-  }
-
-  /**
-   * Returns the {@link ReadOnlyBooleanProperty} indicating if this {@code Grid} has been solved.
-   *
-   * @return the {@link ReadOnlyBooleanProperty} indicating if this {@code Grid} has been solved
-   */
-  public ReadOnlyBooleanProperty isSolvedProperty() {
-    return isSolved.getReadOnlyProperty();
+    return numberOfCompletedGroups == 3 * size;
   }
 
   /**
    * Resets this {@code Grid} by clearing numbers from {@link Cell}s which are not locked.
    */
   public void reset() {
-    for (Collection<Cell> row : getRows()) {
+    for (Cell[] row : rows) {
       for (Cell cell : row) {
         cell.clearNumber();
       }
@@ -385,10 +461,7 @@ public final class Grid {
 
   @Override
   public int hashCode() {
-    final int prime = 31;
-    int result = 1;
-    result = prime * result + cells.hashCode();
-    return result;
+    return Long.hashCode(zobristHash);
   }
 
   @Override
@@ -403,7 +476,7 @@ public final class Grid {
       return false;
     }
     Grid other = (Grid) obj;
-    return cells.equals(other.cells);
+    return zobristHash == other.zobristHash && cells.equals(other.cells);
   }
 
   /**
@@ -418,10 +491,8 @@ public final class Grid {
     private final int size;
     private final int[][] streams;
     private final int[][] numbers;
-    private final ReadOnlyIntegerWrapper[][] streamProperties;
-    private final ReadOnlyIntegerWrapper[][] numberProperties;
-    private final Map<Integer, ReadOnlyIntegerWrapper> streamIndexOccurrences = new HashMap<>();
-    private final Map<Integer, ReadOnlyIntegerWrapper> numberOccurrences = new HashMap<>();
+    private final int[] streamIndexOccurrences;
+    private final int[] numberOccurrences;
 
     /**
      * Creates a new {@code GridBuilder} instance given the size of the {@link Grid} to create.
@@ -434,50 +505,10 @@ public final class Grid {
       checkGridSize(this.size);
       this.streams = new int[this.size][this.size];
       this.numbers = new int[this.size][this.size];
-      this.streamProperties = new ReadOnlyIntegerWrapper[this.size][this.size];
-      this.numberProperties = new ReadOnlyIntegerWrapper[this.size][this.size];
-      initialize();
-    }
-
-    private void initialize() {
-      initializeProperties(streamProperties, streamIndexOccurrences);
-      initializeProperties(numberProperties, numberOccurrences);
-      initializeOccurrences(streamIndexOccurrences, NO_STREAM_INDEX);
-      initializeOccurrences(numberOccurrences, NO_NUMBER);
-    }
-
-    private void initializeProperties(ReadOnlyIntegerWrapper[][] properties,
-        Map<Integer, ReadOnlyIntegerWrapper> occurrences) {
-      for (int rowIndex = 0; rowIndex < size; rowIndex++) {
-        for (int columnIndex = 0; columnIndex < size; columnIndex++) {
-          ReadOnlyIntegerWrapper property = new ReadOnlyIntegerWrapper();
-          addPropertyChangeListener(property, occurrences);
-          properties[rowIndex][columnIndex] = property;
-        }
-      }
-    }
-
-    private void addPropertyChangeListener(ReadOnlyIntegerWrapper property,
-        Map<Integer, ReadOnlyIntegerWrapper> occurrences) {
-      property.addListener(
-          (observable, oldValue, newValue) -> updateOccurrences(occurrences, (int) oldValue,
-              (int) newValue));
-    }
-
-    private void initializeOccurrences(Map<Integer, ReadOnlyIntegerWrapper> occurrences,
-        int noOccurrences) {
-      for (int number = 1; number <= size; number++) {
-        occurrences.put(number, new ReadOnlyIntegerWrapper());
-      }
-      occurrences.put(noOccurrences, new ReadOnlyIntegerWrapper(size * size));
-    }
-
-    private void updateOccurrences(Map<Integer, ReadOnlyIntegerWrapper> occurrences, int oldValue,
-        int newValue) {
-      ReadOnlyIntegerWrapper oldOccurrence = occurrences.get(oldValue);
-      ReadOnlyIntegerWrapper newOccurence = occurrences.get(newValue);
-      oldOccurrence.set(oldOccurrence.get() - 1);
-      newOccurence.set(newOccurence.get() + 1);
+      this.streamIndexOccurrences = new int[this.size + 1];
+      this.numberOccurrences = new int[this.size + 1];
+      this.streamIndexOccurrences[NO_STREAM_INDEX] = this.size * this.size;
+      this.numberOccurrences[NO_NUMBER] = this.size * this.size;
     }
 
     /**
@@ -511,8 +542,9 @@ public final class Grid {
      */
     public GridBuilder setStreamIndex(int rowIndex, int columnIndex, int streamIndex) {
       checkStreamIndex(streamIndex, size);
+      streamIndexOccurrences[streams[rowIndex][columnIndex]]--;
+      streamIndexOccurrences[streamIndex]++;
       streams[rowIndex][columnIndex] = streamIndex;
-      streamProperties[rowIndex][columnIndex].set(streamIndex);
       return this;
     }
 
@@ -533,17 +565,6 @@ public final class Grid {
       return this;
     }
 
-    /**
-     * Returns the {@link ReadOnlyIntegerProperty} indicating the stream index.
-     *
-     * @param rowIndex the row index
-     * @param columnIndex the stream index
-     * @return the {@link ReadOnlyIntegerProperty} indicating the stream index
-     */
-    public ReadOnlyIntegerProperty streamIndexProperty(int rowIndex, int columnIndex) {
-      return streamProperties[rowIndex][columnIndex].getReadOnlyProperty();
-    }
-
     /**
      * Clears the stream index at the given row index and column index.
      *
@@ -592,8 +613,9 @@ public final class Grid {
      */
     public GridBuilder setNumber(int rowIndex, int columnIndex, int number) {
       checkNumber(number, size);
+      numberOccurrences[numbers[rowIndex][columnIndex]]--;
+      numberOccurrences[number]++;
       numbers[rowIndex][columnIndex] = number;
-      numberProperties[rowIndex][columnIndex].set(number);
       return this;
     }
 
@@ -614,17 +636,6 @@ public final class Grid {
       return this;
     }
 
-    /**
-     * Returns the {@link ReadOnlyIntegerProperty} indicating the number.
-     *
-     * @param rowIndex the row index
-     * @param columnIndex the column index
-     * @return the {@link ReadOnlyIntegerProperty} indicating the number
-     */
-    public ReadOnlyIntegerProperty numberProperty(int rowIndex, int columnIndex) {
-      return numberProperties[rowIndex][columnIndex].getReadOnlyProperty();
-    }
-
     /**
      * Clears the number at the given row index and column index.
      *
@@ -658,19 +669,7 @@ public final class Grid {
      * @return the total occurrences of a stream index in this {@code GridBuilder}
      */
     public int getStreamIndexOccurrences(int streamIndex) {
-      return streamIndexOccurrenceProperty(streamIndex).get();
-    }
-
-    /**
-     * Returns the {@link ReadOnlyIntegerProperty} indicating the number of times a stream index
-     * occurs in this {@code GridBuilder}.
-     *
-     * @param streamIndex the streamIndex to return the property for
-     * @return the {@link ReadOnlyIntegerProperty} indicating the number of times a stream index
-     *     occurs in this {@code GridBuilder}
-     */
-    public ReadOnlyIntegerProperty streamIndexOccurrenceProperty(int streamIndex) {
-      return streamIndexOccurrences.get(streamIndex).getReadOnlyProperty();
+      return streamIndexOccurrences[streamIndex];
     }
 
     /**
@@ -680,19 +679,7 @@ public final class Grid {
      * @return the total occurrences of a number in this {@code GridBuilder}
      */
     public int getNumberOccurrences(int number) {
-      return numberOccurrenceProperty(number).get();
-    }
-
-    /**
-     * Returns the {@link ReadOnlyIntegerProperty} indicating the number of times a number occurs in
-     * this {@code GridBuilder}.
-     *
-     * @param number the number to return the property for
-     * @return the {@link ReadOnlyIntegerProperty} indicating the number of times a number occurs in
-     *     this {@code GridBuilder}
-     */
-    public ReadOnlyIntegerProperty numberOccurrenceProperty(int number) {
-      return numberOccurrences.get(number).getReadOnlyProperty();
+      return numberOccurrences[number];
     }
 
     /**
@@ -704,7 +691,41 @@ public final class Grid {
      */
     public Grid build() {
       checkStreams(streams);
-      return new Grid(size, streams, numbers);
+      return new Grid(size, streams, numbers, createPeers());
+    }
+
+    private int[][] createPeers() {
+      int[][] peers = new int[size * size][];
+
+      for (int rowIndex = 0; rowIndex < size; rowIndex++) {
+        for (int columnIndex = 0; columnIndex < size; columnIndex++) {
+          int cell = rowIndex * size + columnIndex;
+          peers[cell] = Ints.toArray(collectPeers(rowIndex, columnIndex, cell));
+        }
+      }
+
+      return peers;
+    }
+
+    private Collection<Integer> collectPeers(int rowIndex, int columnIndex, int cell) {
+      // rows first, then columns, then whatever is left of the stream
+      Collection<Integer> peers = new LinkedHashSet<>();
+      for (int otherColumnIndex = 0; otherColumnIndex < size; otherColumnIndex++) {
+        peers.add(rowIndex * size + otherColumnIndex);
+      }
+      for (int otherRowIndex = 0; otherRowIndex < size; otherRowIndex++) {
+        peers.add(otherRowIndex * size + columnIndex);
+      }
+      int streamIndex = streams[rowIndex][columnIndex];
+      for (int otherRowIndex = 0; otherRowIndex < size; otherRowIndex++) {
+        for (int otherColumnIndex = 0; otherColumnIndex < size; otherColumnIndex++) {
+          if (streams[otherRowIndex][otherColumnIndex] == streamIndex) {
+            peers.add(otherRowIndex * size + otherColumnIndex);
+          }
+        }
+      }
+      peers.remove(cell);
+      return peers;
     }
 
     @Override
@@ -0,0 +1,256 @@
+package lowe.mike.strimko.model;
+
+import static com.google.common.base.Preconditions.checkArgument;
+import static com.google.common.base.Preconditions.checkState;
+
+import java.util.Arrays;
+import java.util.BitSet;
+import java.util.Collection;
+import java.util.Iterator;
+import java.util.Set;
+import java.util.TreeSet;
+import lowe.mike.strimko.model.Grid.GridBuilder;
+
+/**
+ * {@code GridSnapshot} instances are immutable copies of the state of a {@link Grid}.
+ *
+ * <p>The numbers and stream indexes of the cells, which cells are locked and, optionally, their
+ * possible numbers are held in flat arrays in row-major order rather than as {@link Cell}s with
+ * listeners, so taking a {@code GridSnapshot} is cheap. A {@code GridSnapshot} can be turned back
+ * into a new {@link Grid} with {@link #toGrid()} or restored into the {@link Grid} it was taken
+ * from, such as when undoing, with {@link #restoreTo(Grid)}.
+ *
+ * @author Mike Lowe
+ */
+public final class GridSnapshot {
+
+  private final int size;
+  private final byte[] numbers;
+  private final byte[] streams;
+  private final BitSet lockedCells;
+
+  // bit n - 1 is set if n is a possible number, null if possible numbers were not taken
+  private final short[] possibleNumbers;
+
+  private GridSnapshot(Grid grid, boolean includePossibleNumbers) {
+    this.size = grid.getSize();
+    int numberOfCells = size * size;
+    this.numbers = new byte[numberOfCells];
+    this.streams = new byte[numberOfCells];
+    this.lockedCells = new BitSet(numberOfCells);
+    this.possibleNumbers = includePossibleNumbers ? new short[numberOfCells] : null;
+
+    for (Cell cell : grid.getCells()) {
+      int index = getIndex(cell.getRowIndex(), cell.getColumnIndex());
+      numbers[index] = (byte) cell.getNumber();
+      streams[index] = (byte) cell.getStreamIndex();
+      lockedCells.set(index, cell.isLocked());
+      if (includePossibleNumbers) {
+        possibleNumbers[index] = toMask(cell.getPossibleNumbers());
+      }
+    }
+  }
+
+  /**
+   * Takes a {@code GridSnapshot} of the given {@link Grid}, including possible numbers.
+   *
+   * @param grid the {@link Grid}
+   * @return a {@code GridSnapshot} of the {@link Grid}
+   */
+  public static GridSnapshot of(Grid grid) {
+    return of(grid, true);
+  }
+
+  /**
+   * Takes a {@code GridSnapshot} of the given {@link Grid}.
+   *
+   * @param grid the {@link Grid}
+   * @param includePossibleNumbers if possible numbers should be included, otherwise they are left
+   *     to follow from the numbers when the {@code GridSnapshot} is restored
+   * @return a {@code GridSnapshot} of the {@link Grid}
+   */
+  public static GridSnapshot of(Grid grid, boolean includePossibleNumbers) {
+    return new GridSnapshot(grid, includePossibleNumbers);
+  }
+
+  private int getIndex(int rowIndex, int columnIndex) {
+    return rowIndex * size + columnIndex;
+  }
+
+  private static short toMask(Collection<Integer> numbers) {
+    int mask = 0;
+    for (int number : numbers) {
+      mask |= 1 << (number - 1);
+    }
+    return (short) mask;
+  }
+
+  /**
+   * Returns the size of this {@code GridSnapshot}.
+   *
+   * @return the size of this {@code GridSnapshot}
+   */
+  public int getSize() {
+    return size;
+  }
+
+  /**
+   * Returns the number at the given row index and column index, 0 if it is not set.
+   *
+   * @param rowIndex the row index
+   * @param columnIndex the column index
+   * @return the number at the given row index and column index, 0 if it is not set
+   */
+  public int getNumber(int rowIndex, int columnIndex) {
+    return numbers[getIndex(rowIndex, columnIndex)];
+  }
+
+  /**
+   * Returns the stream index at the given row index and column index.
+   *
+   * @param rowIndex the row index
+   * @param columnIndex the column index
+   * @return the stream index at the given row index and column index
+   */
+  public int getStreamIndex(int rowIndex, int columnIndex) {
+    return streams[getIndex(rowIndex, columnIndex)];
+  }
+
+  /**
+   * Returns {@code true} if the cell at the given row index and column index is locked; {@code
+   * false} otherwise.
+   *
+   * @param rowIndex the row index
+   * @param columnIndex the column index
+   * @return {@code true} if the cell is locked; {@code false} otherwise
+   */
+  public boolean isLocked(int rowIndex, int columnIndex) {
+    return lockedCells.get(getIndex(rowIndex, columnIndex));
+  }
+
+  /**
+   * Returns {@code true} if this {@code GridSnapshot} includes possible numbers; {@code false}
+   * otherwise.
+   *
+   * @return {@code true} if this {@code GridSnapshot} includes possible numbers; {@code false}
+   *     otherwise
+   */
+  public boolean hasPossibleNumbers() {
+    return possibleNumbers != null;
+  }
+
+  /**
+   * Returns the {@link Set} of possible numbers at the given row index and column index.
+   *
+   * @param rowIndex the row index
+   * @param columnIndex the column index
+   * @return the {@link Set} of possible numbers at the given row index and column index
+   * @throws IllegalStateException if this {@code GridSnapshot} does not include possible numbers
+   */
+  public Set<Integer> getPossibleNumbers(int rowIndex, int columnIndex) {
+    checkState(hasPossibleNumbers(), "Snapshot does not include possible numbers");
+    Set<Integer> numbersInMask = new TreeSet<>();
+    int mask = possibleNumbers[getIndex(rowIndex, columnIndex)];
+    for (int number = 1; number <= size; number++) {
+      if (containsNumber(mask, number)) {
+        numbersInMask.add(number);
+      }
+    }
+    return numbersInMask;
+  }
+
+  private static boolean containsNumber(int mask, int number) {
+    return (mask & (1 << (number - 1))) != 0;
+  }
+
+  /**
+   * Creates a new {@link Grid} with the state held by this {@code GridSnapshot}.
+   *
+   * @return a new {@link Grid}
+   */
+  public Grid toGrid() {
+    GridBuilder builder = new GridBuilder(size);
+    for (int rowIndex = 0; rowIndex < size; rowIndex++) {
+      for (int columnIndex = 0; columnIndex < size; columnIndex++) {
+        builder.setStreamIndex(rowIndex, columnIndex, getStreamIndex(rowIndex, columnIndex));
+        if (isLocked(rowIndex, columnIndex)) {
+          builder.setNumber(rowIndex, columnIndex, getNumber(rowIndex, columnIndex));
+        }
+      }
+    }
+
+    Grid grid = builder.build();
+    restoreTo(grid);
+    return grid;
+  }
+
+  /**
+   * Restores the state held by this {@code GridSnapshot} into the given {@link Grid}, which must
+   * have the same size, streams and locked cells as the {@link Grid} it was taken from.
+   *
+   * @param grid the {@link Grid} to restore into
+   * @throws IllegalArgumentException if {@code grid} does not have the same size, streams and
+   *     locked cells
+   */
+  public void restoreTo(Grid grid) {
+    checkArgument(grid.getSize() == size, "Grid size must be " + size);
+    for (Cell cell : grid.getCells()) {
+      int index = getIndex(cell.getRowIndex(), cell.getColumnIndex());
+      boolean isSameCell = cell.getStreamIndex() == streams[index]
+          && cell.isLocked() == lockedCells.get(index);
+      checkArgument(isSameCell, "Grid does not have the same streams and locked cells");
+    }
+
+    // possible numbers follow the numbers, so restore them once every number is in place
+    for (Cell cell : grid.getCells()) {
+      cell.setNumber(numbers[getIndex(cell.getRowIndex(), cell.getColumnIndex())]);
+    }
+    if (hasPossibleNumbers()) {
+      for (Cell cell : grid.getCells()) {
+        int index = getIndex(cell.getRowIndex(), cell.getColumnIndex());
+        restorePossibleNumbers(cell, possibleNumbers[index]);
+      }
+    }
+  }
+
+  private void restorePossibleNumbers(Cell cell, int mask) {
+    Set<Integer> cellPossibleNumbers = cell.getPossibleNumbers();
+    Iterator<Integer> iterator = cellPossibleNumbers.iterator();
+    while (iterator.hasNext()) {
+      if (!containsNumber(mask, iterator.next())) {
+        iterator.remove();
+      }
+    }
+    for (int number = 1; number <= size; number++) {
+      if (containsNumber(mask, number)) {
+        cellPossibleNumbers.add(number);
+      }
+    }
+  }
+
+  @Override
+  public int hashCode() {
+    int result = Arrays.hashCode(numbers);
+    result = 31 * result + Arrays.hashCode(streams);
+    result = 31 * result + lockedCells.hashCode();
+    return 31 * result + Arrays.hashCode(possibleNumbers);
+  }
+
+  @Override
+  public boolean equals(Object obj) {
+    if (this == obj) {
+      return true;
+    }
+    if (obj == null) {
+      return false;
+    }
+    if (getClass() != obj.getClass()) {
+      return false;
+    }
+    GridSnapshot other = (GridSnapshot) obj;
+    return size == other.size && Arrays.equals(numbers, other.numbers)
+        && Arrays.equals(streams, other.streams) && lockedCells.equals(other.lockedCells)
+        && Arrays.equals(possibleNumbers, other.possibleNumbers);
+  }
+
+}
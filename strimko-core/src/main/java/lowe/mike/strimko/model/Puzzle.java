@@ -1,13 +1,13 @@
 package lowe.mike.strimko.model;
 
 import static java.util.Objects.hash;
-import static lowe.mike.strimko.model.solver.Solver.solve;
 
 import java.util.Collection;
 import java.util.LinkedHashSet;
-import javafx.beans.property.ReadOnlyObjectProperty;
-import javafx.beans.property.ReadOnlyObjectWrapper;
+import java.util.concurrent.CancellationException;
+import java.util.function.BooleanSupplier;
 import lowe.mike.strimko.model.solver.SolvingResult;
+import lowe.mike.strimko.model.solver.SolvingResultCache;
 
 /**
  * {@code Puzzle} instances are intended to represent Strimko and Sudoku puzzles.
@@ -24,19 +24,39 @@ public final class Puzzle {
   private final Grid grid;
   private final int[][] solution;
   private final Collection<Position> hints = new LinkedHashSet<>();
-  private final ReadOnlyObjectWrapper<Cell> nextHint = new ReadOnlyObjectWrapper<>();
+  private Cell nextHint;
 
   /**
    * Creates a new {@code Puzzle} given the {@link Type} and {@link Grid}.
    *
+   * <p>The {@link Grid} is solved through the default {@link SolvingResultCache}, so a {@link Grid}
+   * that has been solved before is not solved again.
+   *
    * @param type the {@link Type}
    * @param grid the {@link Grid}
    * @throws IllegalArgumentException if {@code grid} is not solvable or has multiple solutions
    */
   public Puzzle(Type type, Grid grid) {
+    this(type, grid, () -> false);
+  }
+
+  /**
+   * Creates a new {@code Puzzle} given the {@link Type} and {@link Grid}, giving up on solving the
+   * {@link Grid} once {@code shouldStop} returns {@code true}.
+   *
+   * @param type the {@link Type}
+   * @param grid the {@link Grid}
+   * @param shouldStop returns {@code true} when solving should stop, checked every so often
+   * @throws IllegalArgumentException if {@code grid} is not solvable or has multiple solutions
+   * @throws CancellationException if solving was stopped before it finished
+   */
+  public Puzzle(Type type, Grid grid, BooleanSupplier shouldStop) {
     this.type = type;
     this.grid = grid;
-    SolvingResult result = solve(this.grid);
+    SolvingResult result = SolvingResultCache.getDefault().solve(this.grid, shouldStop);
+    if (result.isTimedOut()) {
+      throw new CancellationException("Solving was stopped before it finished");
+    }
     this.difficulty = result.getDifficulty();
     this.solution = result.getSolution();
     this.hints.addAll(result.getHints());
@@ -55,7 +75,7 @@ public final class Puzzle {
   }
 
   private void addCellChangeListener(Cell cell) {
-    cell.numberProperty().addListener((observable) -> updateNextHint());
+    cell.addNumberListener((oldNumber, newNumber) -> updateNextHint());
   }
 
   private void initializeNextHint() {
@@ -63,7 +83,7 @@ public final class Puzzle {
   }
 
   private void updateNextHint() {
-    nextHint.set(findNextHint());
+    nextHint = findNextHint();
   }
 
   private Cell findNextHint() {
@@ -125,16 +145,7 @@ public final class Puzzle {
    * @return the next {@link Cell} hint or {@code null} if there are no hints left
    */
   public Cell getNextHint() {
-    return nextHint.get();
-  }
-
-  /**
-   * Returns the next hint {@link ReadOnlyObjectProperty}.
-   *
-   * @return the next hint {@link ReadOnlyObjectProperty}
-   */
-  public ReadOnlyObjectProperty<Cell> nextHintProperty() {
-    return nextHint.getReadOnlyProperty();
+    return nextHint;
   }
 
   @Override
@@ -0,0 +1,81 @@
+package lowe.mike.strimko.model;
+
+/**
+ * {@code Zobrist} provides the keys used to hash {@link Cell}s and {@link Grid}s incrementally.
+ *
+ * <p>Each feature of a {@link Cell}, such as its number or one of its possible numbers, has its
+ * own pseudo-random key. The hash of a {@link Cell} is the exclusive or of the keys of its
+ * features, so it can be kept up to date by exclusive or-ing in the key of any feature that
+ * changes. As the keys depend on the position of the {@link Cell}, the hash of a {@link Grid} can
+ * be kept up to date in the same way.
+ *
+ * <p>Instances of {@code Zobrist} cannot be created.
+ *
+ * @author Mike Lowe
+ */
+final class Zobrist {
+
+  // distinguish the keys of each kind of feature
+  private static final long CELL_SEED = 0x9e3779b97f4a7c15L;
+  private static final long NUMBER_SEED = 0x6a09e667f3bcc909L;
+  private static final long POSSIBLE_NUMBER_SEED = 0xbb67ae8584caa73bL;
+
+  // don't want instances
+  private Zobrist() {
+  }
+
+  /**
+   * Returns the key for the features of a {@link Cell} that cannot change.
+   *
+   * @param rowIndex the row index of the {@link Cell}
+   * @param columnIndex the column index of the {@link Cell}
+   * @param streamIndex the stream index of the {@link Cell}
+   * @param isLocked if the {@link Cell} is locked
+   * @return the key
+   */
+  static long cellKey(int rowIndex, int columnIndex, int streamIndex, boolean isLocked) {
+    return key(CELL_SEED, rowIndex, columnIndex, isLocked ? ~streamIndex : streamIndex);
+  }
+
+  /**
+   * Returns the key for a {@link Cell} containing the given number.
+   *
+   * @param rowIndex the row index of the {@link Cell}
+   * @param columnIndex the column index of the {@link Cell}
+   * @param number the number
+   * @return the key
+   */
+  static long numberKey(int rowIndex, int columnIndex, int number) {
+    return key(NUMBER_SEED, rowIndex, columnIndex, number);
+  }
+
+  /**
+   * Returns the key for a {@link Cell} having the given possible number.
+   *
+   * @param rowIndex the row index of the {@link Cell}
+   * @param columnIndex the column index of the {@link Cell}
+   * @param possibleNumber the possible number
+   * @return the key
+   */
+  static long possibleNumberKey(int rowIndex, int columnIndex, int possibleNumber) {
+    return key(POSSIBLE_NUMBER_SEED, rowIndex, columnIndex, possibleNumber);
+  }
+
+  private static long key(long seed, int rowIndex, int columnIndex, int value) {
+    long position = ((long) rowIndex << 32) | (columnIndex & 0xffffffffL);
+    return mix(mix(seed ^ position) ^ value);
+  }
+
+  /**
+   * Spreads the bits of a hash, using the finalizer from SplitMix64.
+   *
+   * @param hash the hash
+   * @return the mixed hash
+   */
+  static long mix(long hash) {
+    long mixed = (hash ^ (hash >>> 30)) * 0xbf58476d1ce4e5b9L;
+    mixed = (mixed ^ (mixed >>> 27)) * 0x94d049bb133111ebL;
+    return mixed ^ (mixed >>> 31);
+  }
+
+}
@@ -0,0 +1,600 @@
+package lowe.mike.strimko.model.solver;
+
+import static com.google.common.base.Preconditions.checkArgument;
+import static java.lang.Integer.bitCount;
+import static lowe.mike.strimko.model.Grid.copyOf;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Spliterator;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.RecursiveAction;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.Consumer;
+import lowe.mike.strimko.model.Grid;
+
+/**
+ * {@code BruteForceMethod} represents a brute-force solving method.
+ *
+ * <p>A depth-first search algorithm is used to test each possible number for a cell until a
+ * solution
+ * has been found.
+ *
+ * <p>The default search branches on the first cell that is not set and copies the grid for each
+ * branch. {@link #runMinimumRemainingValues(SolvingGrid)} instead branches on the cell with the
+ * fewest possible numbers, propagates naked and hidden singles after each assignment and undoes
+ * changes by rewinding the grid's trail. {@link #runInParallel(SolvingGrid)} runs the same search
+ * with each possible number of the first branching cell explored by its own {@link ForkJoinPool}
+ * task, as does {@link #hasUniqueSolution(SolvingGrid)}, which only checks a grid has exactly one
+ * solution. {@link #enumerateSolutions(SolvingGrid)} runs the same search lazily, one solution at a
+ * time, through a {@link Spliterator} which can be split on untried branches.
+ *
+ * <p>Instances of {@code BruteForceMethod} cannot be created.
+ *
+ * @author Mike Lowe
+ */
+final class BruteForceMethod extends SolvingMethod {
+
+  private static final int NO_CELL = -1;
+  private static final int NUMBER_ALREADY_SET = -1;
+  private static final int UNCHANGED = 0;
+  private static final int CHANGED = 1;
+  private static final int CONTRADICTION = 2;
+
+  // don't want instances
+  private BruteForceMethod() {
+  }
+
+  /**
+   * Runs brute-force method.
+   *
+   * @param grid the {@link Grid} to run method over
+   * @return the solved {@link Grid}
+   * @throws IllegalArgumentException if {@code grid} is not solvable or has multiple solutions
+   */
+  static Grid run(Grid grid) {
+    SolvingGrid solution = run(SolvingGrid.of(grid));
+    Grid solvedGrid = copyOf(grid);
+    solution.copyTo(solvedGrid);
+    return solvedGrid;
+  }
+
+  /**
+   * Runs brute-force method.
+   *
+   * @param grid the {@link SolvingGrid} to run method over
+   * @return the solved {@link SolvingGrid}
+   * @throws IllegalArgumentException if {@code grid} is not solvable or has multiple solutions
+   */
+  static SolvingGrid run(SolvingGrid grid) {
+    // used to keep note of information when running algorithm
+    Note note = new Note();
+
+    run(grid, note);
+
+    checkArgument(!isUnsolvable(note), "Grid is unsolvable");
+    checkArgument(!note.foundMultipleSolutions, "Grid has multiple solutions");
+
+    return note.solution;
+  }
+
+  private static boolean run(SolvingGrid grid, Note note) {
+    int cell = grid.findFirstUnsetCell();
+
+    if (cell == NO_CELL) {
+      return true;
+    }
+    if (noMorePossibles(grid, cell)) {
+      return false;
+    }
+    return tryAndSetNumbers(grid, cell, note);
+  }
+
+  private static boolean noMorePossibles(SolvingGrid grid, int cell) {
+    return grid.getCandidates(cell) == Candidates.NONE;
+  }
+
+  private static boolean tryAndSetNumbers(SolvingGrid grid, int cell, Note note) {
+    int size = grid.getSize();
+
+    for (int number = 1; number <= size; number++) {
+      if (grid.containsCandidate(cell, number)) {
+        // each branch works on its own copy so backtracking is just discarding it
+        SolvingGrid branch = SolvingGrid.copyOf(grid);
+        branch.setNumber(cell, number);
+
+        if (foundSolution(branch, note)) {
+
+          if (isFirstSolution(note)) {
+            updateNote(note, branch);
+            return false;
+          } else {
+            note.foundMultipleSolutions = true;
+            return true;
+          }
+
+        }
+      }
+    }
+    return false;
+  }
+
+  private static boolean foundSolution(SolvingGrid grid, Note note) {
+    return run(grid, note);
+  }
+
+  private static boolean isFirstSolution(Note note) {
+    return !note.foundSolution;
+  }
+
+  private static void updateNote(Note note, SolvingGrid grid) {
+    note.foundSolution = true;
+    note.solution = grid;
+  }
+
+  private static boolean isUnsolvable(Note note) {
+    return !note.foundSolution || !note.solution.isSolved();
+  }
+
+  /**
+   * Runs brute-force method, branching on the cell with the fewest possible numbers.
+   *
+   * @param grid the {@link Grid} to run method over
+   * @return the solved {@link Grid}
+   * @throws IllegalArgumentException if {@code grid} is not solvable or has multiple solutions
+   */
+  static Grid runMinimumRemainingValues(Grid grid) {
+    SolvingGrid solution = runMinimumRemainingValues(SolvingGrid.of(grid));
+    Grid solvedGrid = copyOf(grid);
+    solution.copyTo(solvedGrid);
+    return solvedGrid;
+  }
+
+  /**
+   * Runs brute-force method, branching on the cell with the fewest possible numbers.
+   *
+   * @param grid the {@link SolvingGrid} to run method over
+   * @return the solved {@link SolvingGrid}
+   * @throws IllegalArgumentException if {@code grid} is not solvable or has multiple solutions
+   */
+  static SolvingGrid runMinimumRemainingValues(SolvingGrid grid) {
+    // used to keep note of information when running algorithm
+    SharedNote note = new SharedNote();
+
+    // search over a single copy which is rewound rather than copied for each branch
+    SolvingGrid searchGrid = SolvingGrid.copyOf(grid);
+    searchGrid.startTrail();
+    search(searchGrid, note);
+
+    return getSolution(note);
+  }
+
+  /**
+   * Runs brute-force method, branching on the cell with the fewest possible numbers and exploring
+   * each possible number of the first branching cell in parallel.
+   *
+   * @param grid the {@link Grid} to run method over
+   * @return the solved {@link Grid}
+   * @throws IllegalArgumentException if {@code grid} is not solvable or has multiple solutions
+   */
+  static Grid runInParallel(Grid grid) {
+    SolvingGrid solution = runInParallel(SolvingGrid.of(grid));
+    Grid solvedGrid = copyOf(grid);
+    solution.copyTo(solvedGrid);
+    return solvedGrid;
+  }
+
+  /**
+   * Runs brute-force method, branching on the cell with the fewest possible numbers and exploring
+   * each possible number of the first branching cell in parallel.
+   *
+   * @param grid the {@link SolvingGrid} to run method over
+   * @return the solved {@link SolvingGrid}
+   * @throws IllegalArgumentException if {@code grid} is not solvable or has multiple solutions
+   */
+  static SolvingGrid runInParallel(SolvingGrid grid) {
+    return getSolution(searchInParallel(grid));
+  }
+
+  /**
+   * Returns {@code true} if the grid has exactly one solution; {@code false} otherwise. Each
+   * possible number of the first branching cell is explored in parallel and the search stops as
+   * soon as a second solution is found.
+   *
+   * @param grid the {@link SolvingGrid} to check
+   * @return {@code true} if the grid has exactly one solution; {@code false} otherwise
+   */
+  static boolean hasUniqueSolution(SolvingGrid grid) {
+    SharedNote note = searchInParallel(grid);
+    return note.numberOfSolutions.get() == 1 && note.solution.isSolved();
+  }
+
+  private static SharedNote searchInParallel(SolvingGrid grid) {
+    // shared between tasks so all of them stop once a second solution is found
+    SharedNote note = new SharedNote();
+
+    ForkJoinPool.commonPool().invoke(new SearchTask(SolvingGrid.copyOf(grid), note, true));
+
+    return note;
+  }
+
+  /**
+   * Returns a {@link Spliterator} over every solution of the grid, branching on the cell with the
+   * fewest possible numbers. Solutions are only searched for as the {@link Spliterator} is
+   * advanced.
+   *
+   * @param grid the {@link SolvingGrid} to find solutions of
+   * @return a {@link Spliterator} over every solution of the grid
+   */
+  static Spliterator<int[][]> enumerateSolutions(SolvingGrid grid) {
+    // search over a single copy which is rewound rather than copied for each branch
+    SolvingGrid searchGrid = SolvingGrid.copyOf(grid);
+    searchGrid.startTrail();
+    return new SolutionSpliterator(searchGrid);
+  }
+
+  private static SolvingGrid getSolution(SharedNote note) {
+    int numberOfSolutions = note.numberOfSolutions.get();
+
+    checkArgument(numberOfSolutions > 0 && note.solution.isSolved(), "Grid is unsolvable");
+    checkArgument(numberOfSolutions == 1, "Grid has multiple solutions");
+
+    return note.solution;
+  }
+
+  private static void search(SolvingGrid grid, SharedNote note) {
+    if (note.foundMultipleSolutions() || !propagateSingles(grid)) {
+      return;
+    }
+
+    int cell = findCellWithFewestCandidates(grid);
+
+    if (cell == NO_CELL) {
+      note.addSolution(grid);
+      return;
+    }
+
+    int candidates = grid.getCandidates(cell);
+    int mark = grid.getTrailMark();
+
+    for (int number = 1; number <= grid.getSize(); number++) {
+      if (Candidates.contains(candidates, number)) {
+        grid.setNumber(cell, number);
+        search(grid, note);
+        grid.undoTo(mark);
+
+        if (note.foundMultipleSolutions()) {
+          return;
+        }
+      }
+    }
+  }
+
+  private static int findCellWithFewestCandidates(SolvingGrid grid) {
+    int fewestCell = NO_CELL;
+    int fewestCandidates = Integer.MAX_VALUE;
+
+    for (int cell = 0; cell < grid.getNumberOfCells(); cell++) {
+      if (!grid.isSet(cell)) {
+        int numberOfCandidates = Candidates.size(grid.getCandidates(cell));
+        if (numberOfCandidates < fewestCandidates) {
+          fewestCell = cell;
+          fewestCandidates = numberOfCandidates;
+        }
+      }
+    }
+
+    return fewestCell;
+  }
+
+  /**
+   * Sets naked and hidden singles until there are none left.
+   *
+   * @return {@code false} if a cell or group is left with no way of being completed; {@code true}
+   *     otherwise
+   */
+  private static boolean propagateSingles(SolvingGrid grid) {
+    boolean changed = true;
+
+    while (changed) {
+      changed = false;
+
+      for (int cell = 0; cell < grid.getNumberOfCells(); cell++) {
+        if (!grid.isSet(cell)) {
+          int candidates = grid.getCandidates(cell);
+          if (candidates == Candidates.NONE) {
+            return false;
+          }
+          if (Candidates.size(candidates) == 1) {
+            grid.setNumber(cell, Candidates.first(candidates));
+            changed = true;
+          }
+        }
+      }
+
+      for (int group = 0; group < grid.getGroups().length; group++) {
+        int result = propagateHiddenSingles(grid, group);
+        if (result == CONTRADICTION) {
+          return false;
+        }
+        if (result == CHANGED) {
+          changed = true;
+        }
+      }
+    }
+
+    return true;
+  }
+
+  private static int propagateHiddenSingles(SolvingGrid grid, int groupIndex) {
+    int result = UNCHANGED;
+    int[] group = grid.getGroups()[groupIndex];
+
+    for (int number = 1; number <= grid.getSize(); number++) {
+      // a number possible in more than one cell can't be a single
+      if (bitCount(grid.getCandidatePositions(groupIndex, number)) > 1) {
+        continue;
+      }
+
+      int count = 0;
+      int lastCell = NO_CELL;
+
+      for (int cell : group) {
+        if (grid.getNumber(cell) == number) {
+          count = NUMBER_ALREADY_SET;
+          break;
+        }
+        if (grid.containsCandidate(cell, number)) {
+          count++;
+          lastCell = cell;
+        }
+      }
+
+      if (count == 0) {
+        return CONTRADICTION;
+      }
+      if (count == 1) {
+        grid.setNumber(lastCell, number);
+        result = CHANGED;
+      }
+    }
+
+    return result;
+  }
+
+  private static class Note {
+
+    private boolean foundSolution;
+    private boolean foundMultipleSolutions;
+    private SolvingGrid solution;
+  }
+
+  /**
+   * Note which can be shared by searches running on different threads.
+   */
+  private static final class SharedNote {
+
+    private final AtomicInteger numberOfSolutions = new AtomicInteger();
+    private volatile SolvingGrid solution;
+
+    private void addSolution(SolvingGrid grid) {
+      if (numberOfSolutions.incrementAndGet() == 1) {
+        solution = SolvingGrid.copyOf(grid);
+      }
+    }
+
+    private boolean foundMultipleSolutions() {
+      return numberOfSolutions.get() > 1;
+    }
+  }
+
+  /**
+   * Task which searches a grid, either directly or by splitting on the possible numbers of the
+   * cell with the fewest possible numbers and searching each branch in its own task.
+   */
+  private static final class SearchTask extends RecursiveAction {
+
+    private static final long serialVersionUID = 1L;
+
+    private final SolvingGrid grid;
+    private final SharedNote note;
+    private final boolean split;
+
+    private SearchTask(SolvingGrid grid, SharedNote note, boolean split) {
+      this.grid = grid;
+      this.note = note;
+      this.split = split;
+    }
+
+    @Override
+    protected void compute() {
+      if (split) {
+        splitAndSearch();
+      } else {
+        grid.startTrail();
+        search(grid, note);
+      }
+    }
+
+    private void splitAndSearch() {
+      if (!propagateSingles(grid)) {
+        return;
+      }
+
+      int cell = findCellWithFewestCandidates(grid);
+
+      if (cell == NO_CELL) {
+        note.addSolution(grid);
+        return;
+      }
+
+      Collection<SearchTask> branches = new ArrayList<>();
+      for (int number = 1; number <= grid.getSize(); number++) {
+        if (grid.containsCandidate(cell, number)) {
+          // each branch works on its own copy
+          SolvingGrid branch = SolvingGrid.copyOf(grid);
+          branch.setNumber(cell, number);
+          branches.add(new SearchTask(branch, note, false));
+        }
+      }
+      invokeAll(branches);
+    }
+  }
+
+  /**
+   * Spliterator which runs the search with an explicit stack of branching cells so that it can stop
+   * after each solution and hand over untried branches when split.
+   */
+  private static final class SolutionSpliterator implements Spliterator<int[][]> {
+
+    private final SolvingGrid grid;
+    // each frame is a branching cell, its untried possible numbers and the trail mark before it
+    private final int[] cells;
+    private final int[] untriedCandidates;
+    private final int[] marks;
+    private int depth;
+    private boolean started;
+    private boolean foundSolution;
+
+    private SolutionSpliterator(SolvingGrid grid) {
+      this.grid = grid;
+      int maximumDepth = grid.getNumberOfCells();
+      this.cells = new int[maximumDepth];
+      this.untriedCandidates = new int[maximumDepth];
+      this.marks = new int[maximumDepth];
+    }
+
+    private SolutionSpliterator(SolvingGrid grid, int cell, int candidates) {
+      this(grid);
+      started = true;
+      push(cell, candidates);
+    }
+
+    @Override
+    public boolean tryAdvance(Consumer<? super int[][]> action) {
+      if (!started) {
+        start();
+      }
+      if (foundSolution || findNextSolution()) {
+        foundSolution = false;
+        action.accept(grid.getSolution());
+        return true;
+      }
+      return false;
+    }
+
+    @Override
+    public Spliterator<int[][]> trySplit() {
+      if (!started) {
+        start();
+      }
+      while (true) {
+        // hand over from the shallowest frame as it has the most work beneath it
+        for (int frame = 0; frame < depth; frame++) {
+          if (canSplit(frame)) {
+            return split(frame);
+          }
+        }
+        if (foundSolution || depth == 0 || untriedCandidates[depth - 1] == Candidates.NONE) {
+          return null;
+        }
+        // all that is left is a single untried branch so take it and look for a split beneath it
+        takeNextBranch(depth - 1);
+      }
+    }
+
+    @Override
+    public long estimateSize() {
+      return Long.MAX_VALUE;
+    }
+
+    @Override
+    public int characteristics() {
+      // splitting hands over later branches so solutions are not ordered
+      return NONNULL;
+    }
+
+    private void start() {
+      started = true;
+      foundSolution = descend();
+    }
+
+    private boolean canSplit(int frame) {
+      int candidates = untriedCandidates[frame];
+      if (Candidates.size(candidates) > 1) {
+        return true;
+      }
+      // a single untried branch can only be handed over if a branch is already being searched
+      return candidates != Candidates.NONE
+          && (frame < depth - 1 || grid.getTrailMark() > marks[frame]);
+    }
+
+    private Spliterator<int[][]> split(int frame) {
+      int candidates = untriedCandidates[frame];
+      int handedOver = getUpperHalf(candidates);
+      untriedCandidates[frame] = candidates & ~handedOver;
+      SolvingGrid branch = SolvingGrid.copyOf(grid);
+      branch.undoTo(marks[frame]);
+      return new SolutionSpliterator(branch, cells[frame], handedOver);
+    }
+
+    private boolean findNextSolution() {
+      while (depth > 0) {
+        int frame = depth - 1;
+        if (untriedCandidates[frame] == Candidates.NONE) {
+          grid.undoTo(marks[frame]);
+          depth--;
+        } else if (takeNextBranch(frame)) {
+          return true;
+        }
+      }
+      return false;
+    }
+
+    private boolean takeNextBranch(int frame) {
+      grid.undoTo(marks[frame]);
+      int number = Candidates.first(untriedCandidates[frame]);
+      untriedCandidates[frame] &= ~Candidates.of(number);
+      grid.setNumber(cells[frame], number);
+      foundSolution = descend();
+      return foundSolution;
+    }
+
+    /**
+     * Propagates singles and pushes the next branching cell.
+     *
+     * @return {@code true} if the grid is now solved; {@code false} otherwise
+     */
+    private boolean descend() {
+      if (!propagateSingles(grid)) {
+        return false;
+      }
+
+      int cell = findCellWithFewestCandidates(grid);
+
+      if (cell == NO_CELL) {
+        return grid.isSolved();
+      }
+
+      push(cell, grid.getCandidates(cell));
+      return false;
+    }
+
+    private void push(int cell, int candidates) {
+      cells[depth] = cell;
+      untriedCandidates[depth] = candidates;
+      marks[depth] = grid.getTrailMark();
+      depth++;
+    }
+
+    private static int getUpperHalf(int candidates) {
+      int upperHalf = candidates;
+      for (int i = 0; i < Candidates.size(candidates) / 2; i++) {
+        // drop the lowest number
+        upperHalf &= upperHalf - 1;
+      }
+      return upperHalf;
+    }
+  }
+
+}
@@ -0,0 +1,107 @@
+package lowe.mike.strimko.model.solver;
+
+import static java.lang.Integer.bitCount;
+import static java.lang.Integer.numberOfTrailingZeros;
+
+import java.util.Collection;
+import java.util.TreeSet;
+
+/**
+ * {@code Candidates} provides methods for working with sets of candidate numbers stored as {@code
+ * int} bitmasks.
+ *
+ * <p>Number {@code n} is represented by bit {@code n - 1}, so a {@link SolvingGrid} of size 9 uses
+ * the lowest 9 bits.
+ *
+ * <p>Instances of {@code Candidates} cannot be created.
+ *
+ * @author Mike Lowe
+ */
+final class Candidates {
+
+  static final int NONE = 0;
+
+  // don't want instances
+  private Candidates() {
+  }
+
+  /**
+   * Returns the bitmask containing only the given number.
+   *
+   * @param number the number
+   * @return the bitmask containing only the given number
+   */
+  static int of(int number) {
+    return 1 << (number - 1);
+  }
+
+  /**
+   * Returns the bitmask containing every number from 1 to the given size.
+   *
+   * @param size the size of the grid
+   * @return the bitmask containing every number from 1 to the given size
+   */
+  static int all(int size) {
+    return (1 << size) - 1;
+  }
+
+  /**
+   * Returns {@code true} if the bitmask contains the given number; {@code false} otherwise.
+   *
+   * @param candidates the bitmask
+   * @param number the number
+   * @return {@code true} if the bitmask contains the given number; {@code false} otherwise
+   */
+  static boolean contains(int candidates, int number) {
+    return (candidates & of(number)) != NONE;
+  }
+
+  /**
+   * Returns the number of candidates in the bitmask.
+   *
+   * @param candidates the bitmask
+   * @return the number of candidates in the bitmask
+   */
+  static int size(int candidates) {
+    return bitCount(candidates);
+  }
+
+  /**
+   * Returns the lowest number in the bitmask.
+   *
+   * @param candidates the bitmask, must not be empty
+   * @return the lowest number in the bitmask
+   */
+  static int first(int candidates) {
+    return numberOfTrailingZeros(candidates) + 1;
+  }
+
+  /**
+   * Returns the bitmask containing the given numbers.
+   *
+   * @param numbers the numbers
+   * @return the bitmask containing the given numbers
+   */
+  static int fromNumbers(Collection<Integer> numbers) {
+    int candidates = NONE;
+    for (int number : numbers) {
+      candidates |= of(number);
+    }
+    return candidates;
+  }
+
+  /**
+   * Returns the numbers in the bitmask as a {@link Collection}.
+   *
+   * @param candidates the bitmask
+   * @return the numbers in the bitmask as a {@link Collection}
+   */
+  static Collection<Integer> toNumbers(int candidates) {
+    Collection<Integer> numbers = new TreeSet<>();
+    for (int remaining = candidates; remaining != NONE; remaining &= remaining - 1) {
+      numbers.add(first(remaining));
+    }
+    return numbers;
+  }
+
+}
@@ -0,0 +1,68 @@
+package lowe.mike.strimko.model.solver;
+
+import static lowe.mike.strimko.model.Constants.MAX_GRID_SIZE;
+import static lowe.mike.strimko.model.Constants.MIN_GRID_SIZE;
+
+import lowe.mike.strimko.model.Grid;
+
+/**
+ * {@code Combinations} provides precomputed combinations of possible numbers when solving a puzzle.
+ *
+ * <p>Each combination is a bitmask as described in {@link Candidates}. For example, given
+ * combination size of 2 and the size of the grid given as 3, the possible combinations would be:
+ * [1, 2], [1, 3] and [2, 3].
+ *
+ * <p>Combinations for every grid size are created once, in ascending bitmask order, so iterating
+ * over them doesn't allocate anything.
+ *
+ * <p>Instances of {@code Combinations} cannot be created.
+ *
+ * @author Mike Lowe
+ */
+final class Combinations {
+
+  // indexed by grid size then combination size
+  private static final int[][][] COMBINATIONS = new int[MAX_GRID_SIZE + 1][][];
+
+  static {
+    for (int gridSize = MIN_GRID_SIZE; gridSize <= MAX_GRID_SIZE; gridSize++) {
+      COMBINATIONS[gridSize] = newCombinations(gridSize);
+    }
+  }
+
+  // don't want instances
+  private Combinations() {
+  }
+
+  private static int[][] newCombinations(int gridSize) {
+    int numberOfSubsets = 1 << gridSize;
+    int[] numberOfCombinations = new int[gridSize + 1];
+    for (int subset = 1; subset < numberOfSubsets; subset++) {
+      numberOfCombinations[Candidates.size(subset)]++;
+    }
+
+    int[][] combinations = new int[gridSize + 1][];
+    for (int combinationSize = 0; combinationSize <= gridSize; combinationSize++) {
+      combinations[combinationSize] = new int[numberOfCombinations[combinationSize]];
+      numberOfCombinations[combinationSize] = 0;
+    }
+    for (int subset = 1; subset < numberOfSubsets; subset++) {
+      int combinationSize = Candidates.size(subset);
+      combinations[combinationSize][numberOfCombinations[combinationSize]++] = subset;
+    }
+    return combinations;
+  }
+
+  /**
+   * Returns the combinations of the given size for a {@link Grid} of the given size. The returned
+   * array is shared so must not be modified.
+   *
+   * @param combinationSize size of each combination
+   * @param gridSize size of the {@link Grid}
+   * @return the combinations of the given size
+   */
+  static int[] of(int combinationSize, int gridSize) {
+    return COMBINATIONS[gridSize][combinationSize];
+  }
+
+}
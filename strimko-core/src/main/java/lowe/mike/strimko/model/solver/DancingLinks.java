@@ -0,0 +1,231 @@
+package lowe.mike.strimko.model.solver;
+
+import static java.util.Arrays.copyOf;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.function.BooleanSupplier;
+
+/**
+ * {@code DancingLinks} instances solve exact cover problems using Knuth's Algorithm X with the
+ * dancing links technique.
+ *
+ * <p>The matrix is stored as a toroidal doubly-linked list of nodes held in parallel {@code int}
+ * arrays. Node 0 is the root, nodes {@code 1} to {@code numberOfColumns} are the column headers and
+ * the remaining nodes make up the rows. When searching, the column with the fewest remaining rows
+ * is always covered next.
+ *
+ * <p>A search can be given a {@link BooleanSupplier} which is checked every so often while
+ * searching and stops the search early once it returns {@code true}.
+ *
+ * @author Mike Lowe
+ */
+final class DancingLinks {
+
+  private static final int ROOT = 0;
+  private static final BooleanSupplier NEVER_STOP = () -> false;
+
+  // how many nodes are searched between checks on whether to stop
+  private static final int STOP_CHECK_INTERVAL = 1024;
+
+  private final int[] left;
+  private final int[] right;
+  private final int[] up;
+  private final int[] down;
+  private final int[] columns;
+  private final int[] rowIds;
+  private final int[] columnSizes;
+  private int numberOfNodes;
+
+  private final int[] partialSolution;
+  private int depth;
+  private final List<int[]> solutions = new ArrayList<>();
+  private int solutionLimit;
+  private BooleanSupplier shouldStop;
+  private int nodesUntilStopCheck;
+  private boolean isStopped;
+
+  /**
+   * Creates a new {@code DancingLinks} instance.
+   *
+   * @param numberOfColumns the number of columns (constraints) in the matrix
+   * @param maximumNumberOfNodes the maximum number of row nodes that will be added
+   * @param maximumDepth the maximum number of rows that can make up a solution
+   */
+  DancingLinks(int numberOfColumns, int maximumNumberOfNodes, int maximumDepth) {
+    int capacity = numberOfColumns + 1 + maximumNumberOfNodes;
+    this.left = new int[capacity];
+    this.right = new int[capacity];
+    this.up = new int[capacity];
+    this.down = new int[capacity];
+    this.columns = new int[capacity];
+    this.rowIds = new int[capacity];
+    this.columnSizes = new int[capacity];
+    this.partialSolution = new int[maximumDepth];
+    initializeHeaders(numberOfColumns);
+  }
+
+  private void initializeHeaders(int numberOfColumns) {
+    for (int header = ROOT; header <= numberOfColumns; header++) {
+      left[header] = header - 1;
+      right[header] = header + 1;
+      up[header] = header;
+      down[header] = header;
+      columns[header] = header;
+    }
+    left[ROOT] = numberOfColumns;
+    right[numberOfColumns] = ROOT;
+    numberOfNodes = numberOfColumns + 1;
+  }
+
+  /**
+   * Adds a row to the matrix.
+   *
+   * @param rowId the id returned in solutions when this row is selected
+   * @param rowColumns the (0-based) columns this row covers
+   */
+  void addRow(int rowId, int... rowColumns) {
+    int first = numberOfNodes;
+    for (int column : rowColumns) {
+      int header = column + 1;
+      int node = numberOfNodes++;
+      columns[node] = header;
+      rowIds[node] = rowId;
+      // append to the bottom of the column
+      up[node] = up[header];
+      down[node] = header;
+      down[up[header]] = node;
+      up[header] = node;
+      columnSizes[header]++;
+      // append to the end of the row
+      left[node] = node == first ? node : left[first];
+      right[node] = first;
+      right[left[node]] = node;
+      left[first] = node;
+    }
+  }
+
+  /**
+   * Searches for exact covers, stopping once {@code limit} solutions have been found.
+   *
+   * @param limit the maximum number of solutions to look for
+   * @return the number of solutions found, no more than {@code limit}
+   */
+  int solve(int limit) {
+    return solve(limit, NEVER_STOP);
+  }
+
+  /**
+   * Searches for exact covers, stopping once {@code limit} solutions have been found or once
+   * {@code shouldStop} returns {@code true}, which is checked every so often.
+   *
+   * @param limit the maximum number of solutions to look for
+   * @param shouldStop returns {@code true} when the search should stop
+   * @return the number of solutions found, no more than {@code limit}
+   */
+  int solve(int limit, BooleanSupplier shouldStop) {
+    solutionLimit = limit;
+    this.shouldStop = shouldStop;
+    nodesUntilStopCheck = STOP_CHECK_INTERVAL;
+    isStopped = false;
+    solutions.clear();
+    depth = 0;
+    search();
+    return solutions.size();
+  }
+
+  /**
+   * Returns {@code true} if the last search was stopped before it finished; {@code false}
+   * otherwise.
+   *
+   * @return {@code true} if the last search was stopped before it finished; {@code false}
+   *     otherwise
+   */
+  boolean isStopped() {
+    return isStopped;
+  }
+
+  /**
+   * Returns the row ids making up the first solution found or {@code null} if there isn't one.
+   *
+   * @return the row ids making up the first solution found or {@code null} if there isn't one
+   */
+  int[] getFirstSolution() {
+    return solutions.isEmpty() ? null : solutions.get(0);
+  }
+
+  /**
+   * Returns the row ids making up each solution found, in the order they were found.
+   *
+   * @return the row ids making up each solution found, in the order they were found
+   */
+  List<int[]> getSolutions() {
+    return solutions;
+  }
+
+  private void search() {
+    if (--nodesUntilStopCheck == 0) {
+      nodesUntilStopCheck = STOP_CHECK_INTERVAL;
+      isStopped = shouldStop.getAsBoolean();
+    }
+    if (isStopped) {
+      return;
+    }
+
+    if (right[ROOT] == ROOT) {
+      solutions.add(copyOf(partialSolution, depth));
+      return;
+    }
+
+    int column = chooseColumn();
+    cover(column);
+    for (int row = down[column]; row != column && solutions.size() < solutionLimit && !isStopped;
+        row = down[row]) {
+      partialSolution[depth++] = rowIds[row];
+      for (int node = right[row]; node != row; node = right[node]) {
+        cover(columns[node]);
+      }
+      search();
+      for (int node = left[row]; node != row; node = left[node]) {
+        uncover(columns[node]);
+      }
+      depth--;
+    }
+    uncover(column);
+  }
+
+  private int chooseColumn() {
+    int chosen = right[ROOT];
+    for (int header = right[chosen]; header != ROOT; header = right[header]) {
+      if (columnSizes[header] < columnSizes[chosen]) {
+        chosen = header;
+      }
+    }
+    return chosen;
+  }
+
+  private void cover(int header) {
+    right[left[header]] = right[header];
+    left[right[header]] = left[header];
+    for (int row = down[header]; row != header; row = down[row]) {
+      for (int node = right[row]; node != row; node = right[node]) {
+        down[up[node]] = down[node];
+        up[down[node]] = up[node];
+        columnSizes[columns[node]]--;
+      }
+    }
+  }
+
+  private void uncover(int header) {
+    for (int row = up[header]; row != header; row = up[row]) {
+      for (int node = left[row]; node != row; node = left[node]) {
+        columnSizes[columns[node]]++;
+        down[up[node]] = node;
+        up[down[node]] = node;
+      }
+    }
+    right[left[header]] = header;
+    left[right[header]] = header;
+  }
+
+}
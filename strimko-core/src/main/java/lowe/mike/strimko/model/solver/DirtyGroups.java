@@ -0,0 +1,55 @@
+package lowe.mike.strimko.model.solver;
+
+import static java.util.Arrays.fill;
+
+/**
+ * {@code DirtyGroups} instances keep track of which groups of a {@link SolvingGrid} a solving
+ * method needs to look at again.
+ *
+ * <p>A group is clean once the method has looked at it without making any changes and becomes
+ * dirty again as soon as the possible numbers of one of its cells change. This relies on possible
+ * numbers only ever being removed while a {@code DirtyGroups} is in use, which is the case when
+ * running solving methods.
+ *
+ * @author Mike Lowe
+ */
+final class DirtyGroups {
+
+  private static final int NEVER_CHECKED = -1;
+
+  private final SolvingGrid grid;
+  private final int[] checkedVersions;
+
+  /**
+   * Creates a new {@code DirtyGroups} instance with every group of the {@link SolvingGrid} dirty.
+   *
+   * @param grid the {@link SolvingGrid}
+   */
+  DirtyGroups(SolvingGrid grid) {
+    this.grid = grid;
+    this.checkedVersions = new int[grid.getGroups().length];
+    fill(checkedVersions, NEVER_CHECKED);
+  }
+
+  /**
+   * Returns {@code true} if the group has changed since it was last marked as clean; {@code false}
+   * otherwise.
+   *
+   * @param group the index into {@link SolvingGrid#getGroups()}
+   * @return {@code true} if the group has changed since it was last marked as clean; {@code false}
+   *     otherwise
+   */
+  boolean isDirty(int group) {
+    return checkedVersions[group] != grid.getGroupVersion(group);
+  }
+
+  /**
+   * Marks the group as clean until its possible numbers next change.
+   *
+   * @param group the index into {@link SolvingGrid#getGroups()}
+   */
+  void setClean(int group) {
+    checkedVersions[group] = grid.getGroupVersion(group);
+  }
+
+}
@@ -0,0 +1,172 @@
+package lowe.mike.strimko.model.solver;
+
+import static com.google.common.base.Preconditions.checkArgument;
+import static lowe.mike.strimko.model.Grid.copyOf;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CancellationException;
+import java.util.function.BooleanSupplier;
+import lowe.mike.strimko.model.Grid;
+
+/**
+ * {@code ExactCoverMethod} represents a solving method which treats the grid as an exact cover
+ * problem and solves it with {@link DancingLinks}.
+ *
+ * <p>There are four kinds of constraint, each of which must be satisfied exactly once:
+ * <ul>
+ * <li>cell - every cell contains a number</li>
+ * <li>row-number - every row contains each number</li>
+ * <li>column-number - every column contains each number</li>
+ * <li>stream-number - every stream contains each number</li>
+ * </ul>
+ * Each possible number for each cell is a row in the matrix. Streams are taken from the grid rather
+ * than assumed to be boxes so any stream layout can be solved.
+ *
+ * <p>Instances of {@code ExactCoverMethod} cannot be created.
+ *
+ * @author Mike Lowe
+ */
+final class ExactCoverMethod extends SolvingMethod {
+
+  private static final int NUMBER_OF_CONSTRAINT_TYPES = 4;
+  private static final int CELL_CONSTRAINTS = 0;
+  private static final int ROW_CONSTRAINTS = 1;
+  private static final int COLUMN_CONSTRAINTS = 2;
+  private static final int STREAM_CONSTRAINTS = 3;
+
+  // finding a second solution is enough to know there are multiple
+  private static final int SOLUTION_LIMIT = 2;
+
+  // don't want instances
+  private ExactCoverMethod() {
+  }
+
+  /**
+   * Runs exact cover method.
+   *
+   * @param grid the {@link Grid} to run method over
+   * @return the solved {@link Grid}
+   * @throws IllegalArgumentException if {@code grid} is not solvable or has multiple solutions
+   */
+  static Grid run(Grid grid) {
+    SolvingGrid solution = run(SolvingGrid.of(grid));
+    Grid solvedGrid = copyOf(grid);
+    solution.copyTo(solvedGrid);
+    return solvedGrid;
+  }
+
+  /**
+   * Runs exact cover method.
+   *
+   * @param grid the {@link SolvingGrid} to run method over
+   * @return the solved {@link SolvingGrid}
+   * @throws IllegalArgumentException if {@code grid} is not solvable or has multiple solutions
+   */
+  static SolvingGrid run(SolvingGrid grid) {
+    return run(grid, () -> false);
+  }
+
+  /**
+   * Runs exact cover method, stopping early once {@code shouldStop} returns {@code true}.
+   *
+   * @param grid the {@link SolvingGrid} to run method over
+   * @param shouldStop returns {@code true} when the method should stop, checked every so often
+   * @return the solved {@link SolvingGrid}
+   * @throws IllegalArgumentException if {@code grid} is not solvable or has multiple solutions
+   * @throws CancellationException if the method was stopped before it finished
+   */
+  static SolvingGrid run(SolvingGrid grid, BooleanSupplier shouldStop) {
+    DancingLinks dancingLinks = newDancingLinks(grid);
+
+    int numberOfSolutions = dancingLinks.solve(SOLUTION_LIMIT, shouldStop);
+
+    if (dancingLinks.isStopped()) {
+      throw new CancellationException("Exact cover search was stopped");
+    }
+    checkArgument(numberOfSolutions > 0, "Grid is unsolvable");
+    checkArgument(numberOfSolutions < SOLUTION_LIMIT, "Grid has multiple solutions");
+
+    return getSolution(grid, dancingLinks.getFirstSolution());
+  }
+
+  /**
+   * Counts the solutions of the grid, stopping once {@code limit} have been found.
+   *
+   * @param grid the {@link SolvingGrid} to count solutions of
+   * @param limit the maximum number of solutions to look for
+   * @return the {@link SolutionCount}
+   */
+  static SolutionCount countSolutions(SolvingGrid grid, int limit) {
+    DancingLinks dancingLinks = newDancingLinks(grid);
+
+    int numberOfSolutions = dancingLinks.solve(limit);
+
+    List<int[][]> solutions = new ArrayList<>(numberOfSolutions);
+    for (int[] rowIds : dancingLinks.getSolutions()) {
+      solutions.add(toSolution(grid.getSize(), rowIds));
+    }
+    return new SolutionCount(numberOfSolutions, solutions);
+  }
+
+  private static DancingLinks newDancingLinks(SolvingGrid grid) {
+    int size = grid.getSize();
+    int numberOfCells = grid.getNumberOfCells();
+    int numberOfColumns = NUMBER_OF_CONSTRAINT_TYPES * numberOfCells;
+    int maximumNumberOfNodes = NUMBER_OF_CONSTRAINT_TYPES * numberOfCells * size;
+    DancingLinks dancingLinks = new DancingLinks(numberOfColumns, maximumNumberOfNodes,
+        numberOfCells);
+
+    for (int cell = 0; cell < numberOfCells; cell++) {
+      if (grid.isSet(cell)) {
+        addRow(dancingLinks, grid, cell, grid.getNumber(cell));
+      } else {
+        for (int number = 1; number <= size; number++) {
+          if (grid.containsCandidate(cell, number)) {
+            addRow(dancingLinks, grid, cell, number);
+          }
+        }
+      }
+    }
+
+    return dancingLinks;
+  }
+
+  private static void addRow(DancingLinks dancingLinks, SolvingGrid grid, int cell, int number) {
+    int size = grid.getSize();
+    int numberIndex = number - 1;
+    int rowId = cell * size + numberIndex;
+    dancingLinks.addRow(rowId,
+        getConstraint(grid, CELL_CONSTRAINTS, cell),
+        getConstraint(grid, ROW_CONSTRAINTS, grid.getRowIndex(cell) * size + numberIndex),
+        getConstraint(grid, COLUMN_CONSTRAINTS, grid.getColumnIndex(cell) * size + numberIndex),
+        getConstraint(grid, STREAM_CONSTRAINTS, grid.getStreamIndex(cell) * size + numberIndex));
+  }
+
+  private static int getConstraint(SolvingGrid grid, int constraintType, int index) {
+    return constraintType * grid.getNumberOfCells() + index;
+  }
+
+  private static SolvingGrid getSolution(SolvingGrid grid, int[] rowIds) {
+    SolvingGrid solution = SolvingGrid.copyOf(grid);
+    int size = grid.getSize();
+    for (int rowId : rowIds) {
+      int cell = rowId / size;
+      int number = rowId % size + 1;
+      if (!solution.isSet(cell)) {
+        solution.setNumber(cell, number);
+      }
+    }
+    return solution;
+  }
+
+  private static int[][] toSolution(int size, int[] rowIds) {
+    int[][] solution = new int[size][size];
+    for (int rowId : rowIds) {
+      int cell = rowId / size;
+      solution[cell / size][cell % size] = rowId % size + 1;
+    }
+    return solution;
+  }
+
+}
@@ -0,0 +1,281 @@
+package lowe.mike.strimko.model.solver;
+
+import static java.lang.Integer.bitCount;
+import static java.lang.Integer.numberOfTrailingZeros;
+
+import lowe.mike.strimko.model.Grid;
+
+/**
+ * {@code GroupInteractionsMethod} represents the 'Pointing N' and 'Stream Line Reduction N' solving
+ * methods.
+ *
+ * <p>The 'Pointing N' method is as follows:
+ *
+ * <p>If there are N cells containing a possible number in a stream and all these cells belong to
+ * the same row/column, we can safely remove this number from all the the other cells in the
+ * row/column but outside of the stream.
+ *
+ * <p>The 'Stream Line Reduction N' method is as follows:
+ *
+ * <p>If there are N cells containing a possible number in a row/column and all these cells belong
+ * to
+ * the same stream, we can safely remove this number from all the other cells in the stream but
+ * outside of the row/column.
+ *
+ * <p>Instances of {@code GroupInteractionsMethod} cannot be created.
+ *
+ * @author Mike Lowe
+ */
+final class GroupInteractionsMethod extends SolvingMethod {
+
+  private enum Mode {
+    POINTING, STREAM_LINE_REDUCTION
+  }
+
+  private static final int DIFFERENT_GROUPS = -1;
+
+  // don't want instances
+  private GroupInteractionsMethod() {
+  }
+
+  /**
+   * Runs 'Pointing N' method.
+   *
+   * @param grid the {@link SolvingGrid} to run method over
+   * @param n number of possible numbers that must be shared
+   * @return {@code true} if any changes where made to the {@link SolvingGrid}, {@code false}
+   *     otherwise
+   */
+  static boolean runPointingN(SolvingGrid grid, int n) {
+    return runPointingN(grid, n, new DirtyGroups(grid));
+  }
+
+  /**
+   * Runs 'Pointing N' method over the groups that have changed since it last found nothing in
+   * them.
+   *
+   * @param grid the {@link SolvingGrid} to run method over
+   * @param n number of possible numbers that must be shared
+   * @param dirtyGroups the {@link DirtyGroups} kept for this method
+   * @return {@code true} if any changes where made to the {@link SolvingGrid}, {@code false}
+   *     otherwise
+   */
+  static boolean runPointingN(SolvingGrid grid, int n, DirtyGroups dirtyGroups) {
+    return run(Mode.POINTING, grid, n, dirtyGroups);
+  }
+
+  /**
+   * Runs 'Pointing N' method.
+   *
+   * @param grid the {@link Grid} to run method over
+   * @param n number of possible numbers that must be shared
+   * @return {@code true} if any changes where made to the {@link Grid}, {@code false} otherwise
+   */
+  static boolean runPointingN(Grid grid, int n) {
+    return runOverGrid(grid, solvingGrid -> runPointingN(solvingGrid, n));
+  }
+
+  /**
+   * Runs 'Stream Line Reduction N' method.
+   *
+   * @param grid the {@link SolvingGrid} to run method over
+   * @param n number of possible numbers that must be shared
+   * @return {@code true} if any changes where made to the {@link SolvingGrid}, {@code false}
+   *     otherwise
+   */
+  static boolean runStreamLineReductionN(SolvingGrid grid, int n) {
+    return runStreamLineReductionN(grid, n, new DirtyGroups(grid));
+  }
+
+  /**
+   * Runs 'Stream Line Reduction N' method over the groups that have changed since it last found
+   * nothing in them.
+   *
+   * @param grid the {@link SolvingGrid} to run method over
+   * @param n number of possible numbers that must be shared
+   * @param dirtyGroups the {@link DirtyGroups} kept for this method
+   * @return {@code true} if any changes where made to the {@link SolvingGrid}, {@code false}
+   *     otherwise
+   */
+  static boolean runStreamLineReductionN(SolvingGrid grid, int n, DirtyGroups dirtyGroups) {
+    return run(Mode.STREAM_LINE_REDUCTION, grid, n, dirtyGroups);
+  }
+
+  /**
+   * Runs 'Stream Line Reduction N' method.
+   *
+   * @param grid the {@link Grid} to run method over
+   * @param n number of possible numbers that must be shared
+   * @return {@code true} if any changes where made to the {@link Grid}, {@code false} otherwise
+   */
+  static boolean runStreamLineReductionN(Grid grid, int n) {
+    return runOverGrid(grid, solvingGrid -> runStreamLineReductionN(solvingGrid, n));
+  }
+
+  private static boolean runOverRows(Mode mode, SolvingGrid grid, int n,
+      DirtyGroups dirtyGroups) {
+    if (mode == Mode.STREAM_LINE_REDUCTION) {
+      return run(mode, grid.getRowGroup(0), grid, n, dirtyGroups);
+    }
+    return run(mode, grid.getStreamGroup(0), grid, n, dirtyGroups);
+  }
+
+  private static boolean runOverColumns(Mode mode, SolvingGrid grid, int n,
+      DirtyGroups dirtyGroups) {
+    if (mode == Mode.STREAM_LINE_REDUCTION) {
+      return run(mode, grid.getColumnGroup(0), grid, n, dirtyGroups);
+    }
+    return run(mode, grid.getStreamGroup(0), grid, n, dirtyGroups);
+  }
+
+  static boolean runPointingNOverRows(Grid grid, int n) {
+    return runOverGrid(grid, solvingGrid -> runOverRows(Mode.POINTING, solvingGrid, n,
+        new DirtyGroups(solvingGrid)));
+  }
+
+  static boolean runPointingNOverColumns(Grid grid, int n) {
+    return runOverGrid(grid, solvingGrid -> runOverColumns(Mode.POINTING, solvingGrid, n,
+        new DirtyGroups(solvingGrid)));
+  }
+
+  static boolean runStreamLineReductionNOverRows(Grid grid, int n) {
+    return runOverGrid(grid, solvingGrid -> runOverRows(Mode.STREAM_LINE_REDUCTION,
+        solvingGrid, n, new DirtyGroups(solvingGrid)));
+  }
+
+  static boolean runStreamLineReductionNOverColumns(Grid grid, int n) {
+    return runOverGrid(grid, solvingGrid -> runOverColumns(Mode.STREAM_LINE_REDUCTION,
+        solvingGrid, n, new DirtyGroups(solvingGrid)));
+  }
+
+  private static boolean run(Mode mode, SolvingGrid grid, int n, DirtyGroups dirtyGroups) {
+    if (runOverRows(mode, grid, n, dirtyGroups)) {
+      return true;
+    }
+    return runOverColumns(mode, grid, n, dirtyGroups);
+  }
+
+  // runs over the rows, columns or streams starting at the first group index
+  private static boolean run(Mode mode, int firstGroup, SolvingGrid grid, int n,
+      DirtyGroups dirtyGroups) {
+    int size = grid.getSize();
+
+    for (int group = firstGroup; group < firstGroup + size; group++) {
+      if (dirtyGroups.isDirty(group)) {
+        for (int number = 1; number <= size; number++) {
+          int positions = grid.getCandidatePositions(group, number);
+          if (foundGroupInteraction(positions, n)) {
+            if (removeNumber(mode, grid, grid.getGroups()[group], positions, number)) {
+              return true;
+            }
+          }
+        }
+        dirtyGroups.setClean(group);
+      }
+    }
+    return false;
+  }
+
+  private static boolean foundGroupInteraction(int positions, int n) {
+    return bitCount(positions) == n;
+  }
+
+  // bit i of positions is set if group[i] contains the number in its possible numbers
+  private static boolean removeNumber(Mode mode, SolvingGrid grid, int[] group, int positions,
+      int number) {
+    if (mode == Mode.STREAM_LINE_REDUCTION) {
+      return removeNumberFromStream(grid, group, positions, number);
+    } else {
+      return removeNumberFromRowAndColumn(grid, group, positions, number);
+    }
+  }
+
+  private static boolean removeNumberFromStream(SolvingGrid grid, int[] line, int positions,
+      int number) {
+    int streamIndex = DIFFERENT_GROUPS;
+    boolean first = true;
+
+    for (int remaining = positions; remaining != 0; remaining &= remaining - 1) {
+      int cell = line[numberOfTrailingZeros(remaining)];
+      streamIndex = getSharedGroupIndex(streamIndex, grid.getStreamIndex(cell), first);
+      first = false;
+    }
+
+    if (streamIndex != DIFFERENT_GROUPS) {
+      int[] stream = grid.getStreams()[streamIndex];
+      return removePossibleFromGroupExcept(grid, number, stream, line);
+    }
+    return false;
+  }
+
+  private static boolean removeNumberFromRowAndColumn(SolvingGrid grid, int[] stream,
+      int positions, int number) {
+    int rowIndex = DIFFERENT_GROUPS;
+    int columnIndex = DIFFERENT_GROUPS;
+    boolean first = true;
+
+    for (int remaining = positions; remaining != 0; remaining &= remaining - 1) {
+      int cell = stream[numberOfTrailingZeros(remaining)];
+      rowIndex = getSharedGroupIndex(rowIndex, grid.getRowIndex(cell), first);
+      columnIndex = getSharedGroupIndex(columnIndex, grid.getColumnIndex(cell), first);
+      first = false;
+    }
+
+    if (rowIndex != DIFFERENT_GROUPS) {
+      int[] row = grid.getRows()[rowIndex];
+      if (removePossibleFromGroupExcept(grid, number, row, stream)) {
+        return true;
+      }
+    }
+
+    if (columnIndex != DIFFERENT_GROUPS) {
+      int[] column = grid.getColumns()[columnIndex];
+      return removePossibleFromGroupExcept(grid, number, column, stream);
+    }
+
+    return false;
+  }
+
+  private static int getSharedGroupIndex(int sharedGroupIndex, int groupIndex, boolean first) {
+    if (first || sharedGroupIndex == groupIndex) {
+      return groupIndex;
+    }
+    return DIFFERENT_GROUPS;
+  }
+
+  /**
+   * Removes the possible number from every cell in the group that is not in the excepted group.
+   *
+   * @param grid the {@link SolvingGrid}
+   * @param possible the possible number to remove
+   * @param group the group of cell indexes to remove the possible number from
+   * @param except the group of cell indexes to leave unchanged
+   * @return {@code true} if any changes where made to the {@link SolvingGrid}, {@code false}
+   *     otherwise
+   */
+  static boolean removePossibleFromGroupExcept(SolvingGrid grid, int possible, int[] group,
+      int[] except) {
+    int candidate = Candidates.of(possible);
+    boolean changed = false;
+
+    for (int cell : group) {
+      if (!contains(except, cell)) {
+        if (grid.removeCandidates(cell, candidate)) {
+          changed = true;
+        }
+      }
+    }
+
+    return changed;
+  }
+
+  private static boolean contains(int[] group, int cell) {
+    for (int groupCell : group) {
+      if (groupCell == cell) {
+        return true;
+      }
+    }
+    return false;
+  }
+
+}
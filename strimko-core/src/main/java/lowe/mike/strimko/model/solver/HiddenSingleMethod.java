@@ -0,0 +1,109 @@
+package lowe.mike.strimko.model.solver;
+
+import static java.lang.Integer.bitCount;
+import static java.lang.Integer.numberOfTrailingZeros;
+
+import java.util.Collection;
+import lowe.mike.strimko.model.Grid;
+import lowe.mike.strimko.model.Position;
+
+/**
+ * {@code HiddenSingleMethod} represents the 'Hidden Single' solving method.
+ *
+ * <p>If a candidate only appears once in a set of possible numbers for a row, column or stream,
+ * then
+ * the cell containing this possible must be this number.
+ *
+ * <p>Instances of {@code HiddenSingleMethod} cannot be created.
+ *
+ * @author Mike Lowe
+ */
+final class HiddenSingleMethod extends SolvingMethod {
+
+  private static final int NO_GROUP = -1;
+
+  // don't want instances
+  private HiddenSingleMethod() {
+  }
+
+
+  static boolean runOverRows(Grid grid, Collection<Position> hints) {
+    return runOverGrid(grid, solvingGrid -> run(solvingGrid, hints, solvingGrid.getRowGroup(0)));
+  }
+
+  static boolean runOverColumns(Grid grid, Collection<Position> hints) {
+    return runOverGrid(grid,
+        solvingGrid -> run(solvingGrid, hints, solvingGrid.getColumnGroup(0)));
+  }
+
+  static boolean runOverStreams(Grid grid, Collection<Position> hints) {
+    return runOverGrid(grid,
+        solvingGrid -> run(solvingGrid, hints, solvingGrid.getStreamGroup(0)));
+  }
+
+  /**
+   * Runs 'Hidden Single' method.
+   *
+   * @param grid the {@link Grid} to run method over
+   * @param hints the {@link Collection} of hints to update
+   * @return {@code true} if any changes where made to the {@link Grid}, {@code false} otherwise
+   */
+  static boolean run(Grid grid, Collection<Position> hints) {
+    return runOverGrid(grid, solvingGrid -> run(solvingGrid, hints));
+  }
+
+  /**
+   * Runs 'Hidden Single' method.
+   *
+   * @param grid the {@link SolvingGrid} to run method over
+   * @param hints the {@link Collection} of hints to update
+   * @return {@code true} if any changes where made to the {@link SolvingGrid}, {@code false}
+   *     otherwise
+   */
+  static boolean run(SolvingGrid grid, Collection<Position> hints) {
+    if (run(grid, hints, grid.getRowGroup(0))) {
+      return true;
+    }
+    if (run(grid, hints, grid.getColumnGroup(0))) {
+      return true;
+    }
+    return run(grid, hints, grid.getStreamGroup(0));
+  }
+
+  // runs over the rows, columns or streams starting at the first group index
+  private static boolean run(SolvingGrid grid, Collection<Position> hints, int firstGroup) {
+    int size = grid.getSize();
+    // hidden singles are queued by the grid as they appear
+    int group = grid.findFirstGroupWithHiddenSingle(firstGroup);
+
+    if (group == NO_GROUP || group >= firstGroup + size) {
+      return false;
+    }
+
+    for (int number = 1; number <= size; number++) {
+      if (groupContainsHiddenSingle(grid, hints, group, number)) {
+        return true;
+      }
+    }
+    throw new AssertionError("Group must contain a hidden single");
+  }
+
+  private static boolean groupContainsHiddenSingle(SolvingGrid grid, Collection<Position> hints,
+      int group, int number) {
+    int positions = grid.getCandidatePositions(group, number);
+
+    if (foundCellWithHiddenSingle(positions)) {
+      int cell = grid.getGroups()[group][numberOfTrailingZeros(positions)];
+      grid.setNumber(cell, number);
+      addToHints(grid, cell, hints);
+      return true;
+    }
+
+    return false;
+  }
+
+  private static boolean foundCellWithHiddenSingle(int positions) {
+    return bitCount(positions) == 1;
+  }
+
+}
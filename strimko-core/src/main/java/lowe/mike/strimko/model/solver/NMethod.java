@@ -0,0 +1,265 @@
+package lowe.mike.strimko.model.solver;
+
+import static java.lang.Integer.bitCount;
+
+import lowe.mike.strimko.model.Cell;
+import lowe.mike.strimko.model.Grid;
+
+/**
+ * {@code NMethod} represents the 'Naked N' and 'Hidden N' solving methods.
+ *
+ * <p>The 'Naked N' solving method is as follows:
+ *
+ * <p>If there are N number of {@link Cell}s in a group that have a combined number of possibles
+ * equal to N, then we can remove these numbers from all other {@link Cell}s in the group.
+ *
+ * <p>The 'Hidden N' solving method is as follows:
+ *
+ * <p>If there are N number of {@link Cell}s with N candidates between them that don't appear
+ * elsewhere in the same group, then the other possible numbers can be removed from these {@link
+ * Cell}s.
+ *
+ * <p>Instances of {@code NMethod} cannot be created.
+ *
+ * @author Mike Lowe
+ */
+final class NMethod extends SolvingMethod {
+
+  private enum Mode {
+    NAKED, HIDDEN
+  }
+
+  // don't want instances
+  private NMethod() {
+  }
+
+  /**
+   * Runs 'Naked N' method.
+   *
+   * @param grid the {@link SolvingGrid} to run method over
+   * @param n number of possible numbers that must be shared
+   * @return {@code true} if any changes where made to the {@link SolvingGrid}, {@code false}
+   *     otherwise
+   */
+  static boolean runNakedN(SolvingGrid grid, int n) {
+    return runNakedN(grid, n, new DirtyGroups(grid));
+  }
+
+  /**
+   * Runs 'Naked N' method over the groups that have changed since it last found nothing in them.
+   *
+   * @param grid the {@link SolvingGrid} to run method over
+   * @param n number of possible numbers that must be shared
+   * @param dirtyGroups the {@link DirtyGroups} kept for this method
+   * @return {@code true} if any changes where made to the {@link SolvingGrid}, {@code false}
+   *     otherwise
+   */
+  static boolean runNakedN(SolvingGrid grid, int n, DirtyGroups dirtyGroups) {
+    return run(Mode.NAKED, grid, n, dirtyGroups);
+  }
+
+  /**
+   * Runs 'Naked N' method.
+   *
+   * @param grid the {@link Grid} to run method over
+   * @param n number of possible numbers that must be shared
+   * @return {@code true} if any changes where made to the {@link Grid}, {@code false} otherwise
+   */
+  static boolean runNakedN(Grid grid, int n) {
+    return runOverGrid(grid, solvingGrid -> runNakedN(solvingGrid, n));
+  }
+
+  /**
+   * Runs 'Hidden N' method.
+   *
+   * @param grid the {@link SolvingGrid} to run method over
+   * @param n number of possible numbers that must be shared
+   * @return {@code true} if any changes where made to the {@link SolvingGrid}, {@code false}
+   *     otherwise
+   */
+  static boolean runHiddenN(SolvingGrid grid, int n) {
+    return runHiddenN(grid, n, new DirtyGroups(grid));
+  }
+
+  /**
+   * Runs 'Hidden N' method over the groups that have changed since it last found nothing in them.
+   *
+   * @param grid the {@link SolvingGrid} to run method over
+   * @param n number of possible numbers that must be shared
+   * @param dirtyGroups the {@link DirtyGroups} kept for this method
+   * @return {@code true} if any changes where made to the {@link SolvingGrid}, {@code false}
+   *     otherwise
+   */
+  static boolean runHiddenN(SolvingGrid grid, int n, DirtyGroups dirtyGroups) {
+    return run(Mode.HIDDEN, grid, n, dirtyGroups);
+  }
+
+  /**
+   * Runs 'Hidden N' method.
+   *
+   * @param grid the {@link Grid} to run method over
+   * @param n number of possible numbers that must be shared
+   * @return {@code true} if any changes where made to the {@link Grid}, {@code false} otherwise
+   */
+  static boolean runHiddenN(Grid grid, int n) {
+    return runOverGrid(grid, solvingGrid -> runHiddenN(solvingGrid, n));
+  }
+
+  private static boolean runOverRows(Mode mode, SolvingGrid grid, int n,
+      DirtyGroups dirtyGroups) {
+    return run(mode, grid, grid.getRowGroup(0), n, dirtyGroups);
+  }
+
+  private static boolean runOverColumns(Mode mode, SolvingGrid grid, int n,
+      DirtyGroups dirtyGroups) {
+    return run(mode, grid, grid.getColumnGroup(0), n, dirtyGroups);
+  }
+
+  private static boolean runOverStreams(Mode mode, SolvingGrid grid, int n,
+      DirtyGroups dirtyGroups) {
+    return run(mode, grid, grid.getStreamGroup(0), n, dirtyGroups);
+  }
+
+  static boolean runNakedNOverRows(Grid grid, int n) {
+    return runOverGrid(grid, solvingGrid -> runOverRows(Mode.NAKED, solvingGrid, n,
+        new DirtyGroups(solvingGrid)));
+  }
+
+  static boolean runNakedNOverColumns(Grid grid, int n) {
+    return runOverGrid(grid, solvingGrid -> runOverColumns(Mode.NAKED, solvingGrid, n,
+        new DirtyGroups(solvingGrid)));
+  }
+
+  static boolean runNakedNOverStreams(Grid grid, int n) {
+    return runOverGrid(grid, solvingGrid -> runOverStreams(Mode.NAKED, solvingGrid, n,
+        new DirtyGroups(solvingGrid)));
+  }
+
+  static boolean runHiddenNOverRows(Grid grid, int n) {
+    return runOverGrid(grid, solvingGrid -> runOverRows(Mode.HIDDEN, solvingGrid, n,
+        new DirtyGroups(solvingGrid)));
+  }
+
+  static boolean runHiddenNOverColumns(Grid grid, int n) {
+    return runOverGrid(grid, solvingGrid -> runOverColumns(Mode.HIDDEN, solvingGrid, n,
+        new DirtyGroups(solvingGrid)));
+  }
+
+  static boolean runHiddenNOverStreams(Grid grid, int n) {
+    return runOverGrid(grid, solvingGrid -> runOverStreams(Mode.HIDDEN, solvingGrid, n,
+        new DirtyGroups(solvingGrid)));
+  }
+
+  private static boolean run(Mode mode, SolvingGrid grid, int n, DirtyGroups dirtyGroups) {
+    if (runOverRows(mode, grid, n, dirtyGroups)) {
+      return true;
+    }
+    if (runOverColumns(mode, grid, n, dirtyGroups)) {
+      return true;
+    }
+    return runOverStreams(mode, grid, n, dirtyGroups);
+  }
+
+  // runs over the rows, columns or streams starting at the first group index
+  private static boolean run(Mode mode, SolvingGrid grid, int firstGroup, int n,
+      DirtyGroups dirtyGroups) {
+    int[] groupCandidates = getGroupCandidates(grid, firstGroup, dirtyGroups);
+
+    for (int combination : Combinations.of(n, grid.getSize())) {
+      if (groupContainsN(mode, grid, firstGroup, groupCandidates, n, combination)) {
+        return true;
+      }
+    }
+
+    for (int group = firstGroup; group < firstGroup + grid.getSize(); group++) {
+      dirtyGroups.setClean(group);
+    }
+    return false;
+  }
+
+  // the union of the possible numbers in each group, which stays valid until a change is made,
+  // clean groups are left empty so that no combination is looked for in them
+  private static int[] getGroupCandidates(SolvingGrid grid, int firstGroup,
+      DirtyGroups dirtyGroups) {
+    int[] groupCandidates = new int[grid.getSize()];
+    for (int i = 0; i < groupCandidates.length; i++) {
+      int group = firstGroup + i;
+      if (dirtyGroups.isDirty(group)) {
+        for (int cell : grid.getGroups()[group]) {
+          groupCandidates[i] |= grid.getCandidates(cell);
+        }
+      }
+    }
+    return groupCandidates;
+  }
+
+  private static boolean groupContainsN(Mode mode, SolvingGrid grid, int firstGroup,
+      int[] groupCandidates, int n, int combination) {
+    for (int i = 0; i < groupCandidates.length; i++) {
+      // the N cells must contain every number in the combination between them
+      if ((combination & ~groupCandidates[i]) != Candidates.NONE) {
+        continue;
+      }
+
+      int[] group = grid.getGroups()[firstGroup + i];
+      int foundNumbers = Candidates.NONE;
+      int cellsContainingCombination = 0;
+
+      for (int position = 0; position < group.length; position++) {
+        int candidates = grid.getCandidates(group[position]);
+        if (shouldAddToCombination(mode, candidates, combination)) {
+          cellsContainingCombination |= 1 << position;
+          foundNumbers |= candidates;
+        }
+      }
+
+      if (foundN(cellsContainingCombination, n, foundNumbers, combination)) {
+        if (removePossibles(mode, grid, combination, group, cellsContainingCombination)) {
+          return true;
+        }
+      }
+    }
+    return false;
+  }
+
+  private static boolean shouldAddToCombination(Mode mode, int candidates, int combination) {
+    return (mode == Mode.NAKED && cellContainsOnly(candidates, combination))
+        || (mode == Mode.HIDDEN && cellContainsOneOf(candidates, combination));
+  }
+
+  private static boolean cellContainsOnly(int candidates, int combination) {
+    return candidates != Candidates.NONE && (candidates & ~combination) == Candidates.NONE;
+  }
+
+  private static boolean cellContainsOneOf(int candidates, int combination) {
+    return (candidates & combination) != Candidates.NONE;
+  }
+
+  private static boolean foundN(int cellsContainingCombination, int n, int foundNumbers,
+      int combination) {
+    return bitCount(cellsContainingCombination) == n
+        && (foundNumbers & combination) == combination;
+  }
+
+  // bit i of cellsContainingCombination is set if group[i] is one of the N cells
+  private static boolean removePossibles(Mode mode, SolvingGrid grid, int combination,
+      int[] group, int cellsContainingCombination) {
+    boolean changed = false;
+
+    for (int position = 0; position < group.length; position++) {
+      boolean isInCombination = (cellsContainingCombination & (1 << position)) != 0;
+      if (mode == Mode.NAKED && !isInCombination) {
+        if (grid.removeCandidates(group[position], combination)) {
+          changed = true;
+        }
+      } else if (mode == Mode.HIDDEN && isInCombination) {
+        if (grid.retainCandidates(group[position], combination)) {
+          changed = true;
+        }
+      }
+    }
+
+    return changed;
+  }
+
+}
@@ -1,7 +1,6 @@
 package lowe.mike.strimko.model.solver;
 
 import java.util.Collection;
-import lowe.mike.strimko.model.Cell;
 import lowe.mike.strimko.model.Grid;
 import lowe.mike.strimko.model.Position;
 
@@ -17,6 +16,8 @@ import lowe.mike.strimko.model.Position;
  */
 final class NakedSingleMethod extends SolvingMethod {
 
+  private static final int NO_CELL = -1;
+
   // don't want instances
   private NakedSingleMethod() {
   }
@@ -29,24 +30,33 @@ final class NakedSingleMethod extends SolvingMethod {
    * @return {@code true} if any changes where made to the {@link Grid}, {@code false} otherwise
    */
   static boolean run(Grid grid, Collection<Position> hints) {
-    for (Cell cell : grid.getCells()) {
-      if (foundCellWithOnePossibleNumber(cell)) {
-        int number = getNumber(cell);
-        cell.setNumber(number);
-        addToHints(cell, hints);
-        return true;
-      }
-    }
-
-    return false;
+    return runOverGrid(grid, solvingGrid -> run(solvingGrid, hints));
   }
 
-  private static boolean foundCellWithOnePossibleNumber(Cell cell) {
-    return cell.getPossibleNumbers().size() == 1;
+  /**
+   * Runs 'Naked Single' method.
+   *
+   * @param grid the {@link SolvingGrid} to run method over
+   * @param hints the {@link Collection} of hints to update
+   * @return {@code true} if any changes where made to the {@link SolvingGrid}, {@code false}
+   *     otherwise
+   */
+  static boolean run(SolvingGrid grid, Collection<Position> hints) {
+    // naked singles are queued by the grid as they appear
+    int cell = grid.findFirstNakedSingle();
+
+    if (cell == NO_CELL) {
+      return false;
+    }
+
+    int number = getNumber(grid, cell);
+    grid.setNumber(cell, number);
+    addToHints(grid, cell, hints);
+    return true;
   }
 
-  private static int getNumber(Cell cell) {
-    return cell.getPossibleNumbers().iterator().next();
+  private static int getNumber(SolvingGrid grid, int cell) {
+    return Candidates.first(grid.getCandidates(cell));
   }
 
 }
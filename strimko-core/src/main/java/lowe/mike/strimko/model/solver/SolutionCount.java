@@ -0,0 +1,85 @@
+package lowe.mike.strimko.model.solver;
+
+import static java.util.Arrays.deepEquals;
+import static java.util.Arrays.deepHashCode;
+
+import java.util.List;
+import lowe.mike.strimko.model.Grid;
+
+/**
+ * {@code SolutionCount} instances are intended to provide information from the {@link Solver}
+ * after counting the solutions of a {@link Grid}.
+ *
+ * <p>Stored information includes the number of solutions found, which is never more than the limit
+ * counted up to, and the solutions themselves in the order they were found.
+ *
+ * @author Mike Lowe
+ */
+public final class SolutionCount {
+
+  private final int numberOfSolutions;
+  private final List<int[][]> solutions;
+
+  /**
+   * Creates a new {@code SolutionCount} given the number of solutions and a {@link List} of the
+   * solutions found.
+   *
+   * @param numberOfSolutions the number of solutions
+   * @param solutions the {@link List} of solutions found
+   */
+  public SolutionCount(int numberOfSolutions, List<int[][]> solutions) {
+    this.numberOfSolutions = numberOfSolutions;
+    this.solutions = solutions;
+  }
+
+  /**
+   * Returns the number of solutions found.
+   *
+   * @return the number of solutions found
+   */
+  public int getNumberOfSolutions() {
+    return numberOfSolutions;
+  }
+
+  /**
+   * Returns the {@link List} of solutions found.
+   *
+   * @return the {@link List} of solutions found
+   */
+  public List<int[][]> getSolutions() {
+    return solutions;
+  }
+
+  /**
+   * Returns {@code true} if exactly one solution was found; {@code false} otherwise.
+   *
+   * @return {@code true} if exactly one solution was found; {@code false} otherwise
+   */
+  public boolean hasUniqueSolution() {
+    return numberOfSolutions == 1;
+  }
+
+  @Override
+  public int hashCode() {
+    return 31 * numberOfSolutions + deepHashCode(solutions.toArray());
+  }
+
+  @Override
+  public boolean equals(Object obj) {
+    if (this == obj) {
+      return true;
+    }
+    if (obj == null) {
+      return false;
+    }
+    if (getClass() != obj.getClass()) {
+      return false;
+    }
+    SolutionCount other = (SolutionCount) obj;
+    if (numberOfSolutions != other.numberOfSolutions) {
+      return false;
+    }
+    return deepEquals(solutions.toArray(), other.solutions.toArray());
+  }
+
+}
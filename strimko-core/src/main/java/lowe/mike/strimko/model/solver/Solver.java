@@ -0,0 +1,269 @@
+package lowe.mike.strimko.model.solver;
+
+import static com.google.common.base.Preconditions.checkArgument;
+import static lowe.mike.strimko.model.Difficulty.EASY;
+import static lowe.mike.strimko.model.Difficulty.HARD;
+import static lowe.mike.strimko.model.Difficulty.MEDIUM;
+
+import java.util.Collection;
+import java.util.LinkedHashSet;
+import java.util.concurrent.CancellationException;
+import java.util.concurrent.TimeUnit;
+import java.util.function.BooleanSupplier;
+import java.util.stream.Stream;
+import java.util.stream.StreamSupport;
+import lowe.mike.strimko.model.Difficulty;
+import lowe.mike.strimko.model.Grid;
+import lowe.mike.strimko.model.Position;
+
+/**
+ * {@code Solver} class provides a single method {@link #solve(Grid)} which attempts to solve a
+ * given {@link Grid} and returns a {@link SolvingResult} object which contains details about the
+ * solution etc.
+ *
+ * <p>Various methods are used to attempt to solve a {@link Grid}, these include:
+ * <ul>
+ * <li>'Naked Singles'</li>
+ * <li>'Hidden Singles'</li>
+ * <li>'Pointing Pairs'</li>
+ * <li>'Pointing Triples'</li>
+ * <li>'Stream Line Reduction Pairs'</li>
+ * <li>'Stream Line Reduction Triples'</li>
+ * <li>'Naked Pairs'</li>
+ * <li>'Naked Triples'</li>
+ * <li>'Naked Quads'</li>
+ * <li>'Hidden Pairs'</li>
+ * <li>'Hidden Triples'</li>
+ * <li>'Hidden Quads'</li>
+ * <li>Exact cover search using dancing links (as a last resort)</li>
+ * </ul>
+ * Details about each of these methods can be found online.
+ *
+ * <p>The easy methods take naked and hidden singles from queues kept up to date by the grid and the
+ * other methods only look again at rows, columns and streams that have changed since they last
+ * found nothing in them, so the work done grows with the number of deductions made rather than
+ * with the size of the grid each time.
+ *
+ * <p>Solving can be limited with a timeout or a {@link BooleanSupplier} acting as a cancellation
+ * token, which is checked between methods and every so often during the exact cover search. If
+ * solving is stopped, a {@link SolvingResult} marked as timed out is returned with the numbers
+ * worked out so far.
+ *
+ * <p>Instances of {@code Solver} cannot be created.
+ *
+ * @author Mike Lowe
+ */
+public final class Solver {
+
+  private static final BooleanSupplier NEVER_STOP = () -> false;
+
+  // don't want instances
+  private Solver() {
+  }
+
+  /**
+   * Attempts to solve the given {@link Grid} and returns a {@link SolvingResult} object.
+   *
+   * @param grid the {@link Grid} to solve
+   * @return the {@link SolvingResult} containing useful information from solving
+   * @throws IllegalArgumentException if {@code grid} is not solvable or has multiple solutions
+   */
+  public static SolvingResult solve(Grid grid) {
+    // solve over a primitive copy so we don't alter the original
+    return runSolvingMethods(SolvingGrid.of(grid), NEVER_STOP);
+  }
+
+  /**
+   * Attempts to solve the given {@link Grid} within the given timeout and returns a {@link
+   * SolvingResult} object, which is marked as timed out if solving did not finish in time.
+   *
+   * @param grid the {@link Grid} to solve
+   * @param timeout the maximum time to spend solving
+   * @param unit the {@link TimeUnit} of {@code timeout}
+   * @return the {@link SolvingResult} containing useful information from solving
+   * @throws IllegalArgumentException if {@code grid} is not solvable or has multiple solutions
+   */
+  public static SolvingResult solve(Grid grid, long timeout, TimeUnit unit) {
+    long deadline = System.nanoTime() + unit.toNanos(timeout);
+    return solve(grid, () -> System.nanoTime() - deadline >= 0);
+  }
+
+  /**
+   * Attempts to solve the given {@link Grid}, stopping early once {@code shouldStop} returns
+   * {@code true}, and returns a {@link SolvingResult} object, which is marked as timed out if
+   * solving was stopped.
+   *
+   * @param grid the {@link Grid} to solve
+   * @param shouldStop returns {@code true} when solving should stop, checked every so often
+   * @return the {@link SolvingResult} containing useful information from solving
+   * @throws IllegalArgumentException if {@code grid} is not solvable or has multiple solutions
+   */
+  public static SolvingResult solve(Grid grid, BooleanSupplier shouldStop) {
+    return runSolvingMethods(SolvingGrid.of(grid), shouldStop);
+  }
+
+  /**
+   * Counts the solutions of the given {@link Grid}, stopping once {@code limit} solutions have been
+   * found, and returns a {@link SolutionCount} containing the count and the solutions found.
+   *
+   * <p>Unlike {@link #solve(Grid)} this does not throw if the {@link Grid} is unsolvable or has
+   * multiple solutions, so it is cheap to call repeatedly when generating or minimising puzzles.
+   *
+   * @param grid the {@link Grid} to count solutions of
+   * @param limit the maximum number of solutions to look for
+   * @return the {@link SolutionCount} containing the count and the solutions found
+   * @throws IllegalArgumentException if {@code limit} is less than 1
+   */
+  public static SolutionCount countSolutions(Grid grid, int limit) {
+    checkArgument(limit > 0, "Limit must be at least 1");
+    return ExactCoverMethod.countSolutions(SolvingGrid.of(grid), limit);
+  }
+
+  /**
+   * Returns {@code true} if the given {@link Grid} has exactly one solution; {@code false}
+   * otherwise.
+   *
+   * <p>The search uses every processor, stopping as soon as a second solution is found, so this is
+   * the quickest way to validate the uniqueness of a generated or minimised puzzle.
+   *
+   * @param grid the {@link Grid} to check
+   * @return {@code true} if {@code grid} has exactly one solution; {@code false} otherwise
+   */
+  public static boolean hasUniqueSolution(Grid grid) {
+    return BruteForceMethod.hasUniqueSolution(SolvingGrid.of(grid));
+  }
+
+  /**
+   * Returns a lazily evaluated {@link Stream} of every solution of the given {@link Grid}.
+   *
+   * <p>Solutions are only searched for as the {@link Stream} is consumed so grids with a huge
+   * number of solutions can be enumerated without holding them all in memory. If the {@link Stream}
+   * is made parallel then untried branches of the search are handed to other threads, in which case
+   * solutions are not encountered in any particular order.
+   *
+   * @param grid the {@link Grid} to enumerate solutions of
+   * @return a {@link Stream} of every solution of {@code grid}
+   */
+  public static Stream<int[][]> enumerateSolutions(Grid grid) {
+    return StreamSupport.stream(BruteForceMethod.enumerateSolutions(SolvingGrid.of(grid)), false);
+  }
+
+  private static SolvingResult runSolvingMethods(SolvingGrid grid, BooleanSupplier shouldStop) {
+    Difficulty difficulty = EASY;
+    Collection<Position> hints = new LinkedHashSet<>();
+    DirtyGroupsByMethod dirtyGroups = new DirtyGroupsByMethod(grid);
+
+    while (!grid.isSolved()) {
+      if (shouldStop.getAsBoolean()) {
+        return new SolvingResult(difficulty, grid.getSolution(), hints, true);
+      }
+
+      boolean changed = runEasyMethods(grid, hints);
+
+      if (!changed) {
+        changed = runMediumMethods(grid, dirtyGroups);
+        if (difficulty == EASY) {
+          difficulty = MEDIUM;
+        }
+      }
+
+      if (!changed) {
+        difficulty = HARD;
+        changed = runHardMethods(grid, dirtyGroups);
+      }
+
+      if (!changed) {
+        try {
+          grid = ExactCoverMethod.run(grid, shouldStop);
+        } catch (CancellationException e) {
+          return new SolvingResult(difficulty, grid.getSolution(), hints, true);
+        }
+        break;
+      }
+    }
+
+    return new SolvingResult(difficulty, grid.getSolution(), hints);
+  }
+
+  private static boolean runEasyMethods(SolvingGrid grid, Collection<Position> hints) {
+    if (NakedSingleMethod.run(grid, hints)) {
+      return true;
+    }
+    return HiddenSingleMethod.run(grid, hints);
+  }
+
+  private static boolean runMediumMethods(SolvingGrid grid, DirtyGroupsByMethod dirtyGroups) {
+    // pointing pairs
+    if (GroupInteractionsMethod.runPointingN(grid, 2, dirtyGroups.pointingPairs)) {
+      return true;
+    }
+    // stream line reduction pairs
+    if (GroupInteractionsMethod.runStreamLineReductionN(grid, 2,
+        dirtyGroups.streamLineReductionPairs)) {
+      return true;
+    }
+    // naked pairs
+    return NMethod.runNakedN(grid, 2, dirtyGroups.nakedPairs);
+  }
+
+  private static boolean runHardMethods(SolvingGrid grid, DirtyGroupsByMethod dirtyGroups) {
+    // pointing triples
+    if (GroupInteractionsMethod.runPointingN(grid, 3, dirtyGroups.pointingTriples)) {
+      return true;
+    }
+    // stream line reduction triples
+    if (GroupInteractionsMethod.runStreamLineReductionN(grid, 3,
+        dirtyGroups.streamLineReductionTriples)) {
+      return true;
+    }
+    // naked triples
+    if (NMethod.runNakedN(grid, 3, dirtyGroups.nakedTriples)) {
+      return true;
+    }
+    // naked quads
+    if (NMethod.runNakedN(grid, 4, dirtyGroups.nakedQuads)) {
+      return true;
+    }
+    // hidden pairs
+    if (NMethod.runHiddenN(grid, 2, dirtyGroups.hiddenPairs)) {
+      return true;
+    }
+    // hidden triples
+    if (NMethod.runHiddenN(grid, 3, dirtyGroups.hiddenTriples)) {
+      return true;
+    }
+    // hidden quads
+    return NMethod.runHiddenN(grid, 4, dirtyGroups.hiddenQuads);
+  }
+
+  /**
+   * The {@link DirtyGroups} kept for each medium and hard method while solving a grid.
+   */
+  private static final class DirtyGroupsByMethod {
+
+    private final DirtyGroups pointingPairs;
+    private final DirtyGroups streamLineReductionPairs;
+    private final DirtyGroups nakedPairs;
+    private final DirtyGroups pointingTriples;
+    private final DirtyGroups streamLineReductionTriples;
+    private final DirtyGroups nakedTriples;
+    private final DirtyGroups nakedQuads;
+    private final DirtyGroups hiddenPairs;
+    private final DirtyGroups hiddenTriples;
+    private final DirtyGroups hiddenQuads;
+
+    private DirtyGroupsByMethod(SolvingGrid grid) {
+      this.pointingPairs = new DirtyGroups(grid);
+      this.streamLineReductionPairs = new DirtyGroups(grid);
+      this.nakedPairs = new DirtyGroups(grid);
+      this.pointingTriples = new DirtyGroups(grid);
+      this.streamLineReductionTriples = new DirtyGroups(grid);
+      this.nakedTriples = new DirtyGroups(grid);
+      this.nakedQuads = new DirtyGroups(grid);
+      this.hiddenPairs = new DirtyGroups(grid);
+      this.hiddenTriples = new DirtyGroups(grid);
+      this.hiddenQuads = new DirtyGroups(grid);
+    }
+  }
+
+}
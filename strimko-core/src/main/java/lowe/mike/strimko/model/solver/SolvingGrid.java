@@ -0,0 +1,597 @@
+package lowe.mike.strimko.model.solver;
+
+import static java.lang.Integer.bitCount;
+import static java.lang.Integer.numberOfTrailingZeros;
+import static lowe.mike.strimko.model.Constants.NO_NUMBER;
+import static lowe.mike.strimko.model.solver.Candidates.NONE;
+
+import java.util.Arrays;
+import java.util.BitSet;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import lowe.mike.strimko.model.Cell;
+import lowe.mike.strimko.model.Grid;
+import lowe.mike.strimko.model.Position;
+
+/**
+ * {@code SolvingGrid} instances are the {@link Solver}'s primitive representation of a {@link
+ * Grid}.
+ *
+ * <p>Cells are referred to by index in row-major order. Each cell's possible numbers are stored as
+ * an {@code int} bitmask (see {@link Candidates}) and rows, columns and streams are precomputed
+ * arrays of cell indexes, so solving methods run without boxing or firing listeners. Only the final
+ * solution is turned back into the data model.
+ *
+ * <p>Every row, column and stream is also given a group index (see {@link #getGroups()}) and, for
+ * each group and number, a bitmask of the positions in the group where the number is still possible
+ * is kept up to date as possible numbers change. Naked and hidden singles are queued as they appear
+ * and each group has a version which goes up whenever the possible numbers of one of its cells
+ * change, so solving methods only need to look at what has changed since they last ran.
+ *
+ * @author Mike Lowe
+ */
+final class SolvingGrid {
+
+  private static final int TRAIL_ENTRY_SIZE = 3;
+
+  private final int size;
+  private final int[] numbers;
+  private final int[] candidates;
+  private int numberOfUnsetCells;
+
+  /**
+   * Groups of cell indexes, these never change so are shared between copies.
+   */
+  private final int[][] rows;
+  private final int[][] columns;
+  private final int[][] streams;
+  private final int[][] groups;
+  private final int[] streamIndexes;
+  private final int[] streamPositions;
+  private final int[][] peers;
+
+  /**
+   * Positions in each group where each number is possible, indexed by group then number. Bit i is
+   * set if the cell at position i of the group contains the number in its possible numbers.
+   */
+  private final int[] candidatePositions;
+
+  /**
+   * Cells with a single possible number and group and number pairs, indexed as in {@link
+   * #candidatePositions}, where the number has a single possible position.
+   */
+  private final BitSet nakedSingles;
+  private final BitSet hiddenSingles;
+  private final int[] groupVersions;
+
+  /**
+   * Changes made while trailing, so they can be undone when backtracking. Each entry is a cell
+   * index followed by the cell's previous number and possible numbers.
+   */
+  private int[] trail;
+  private int trailSize;
+
+  /**
+   * Creates a new {@code SolvingGrid} instance from a {@link Grid}.
+   *
+   * @param grid the {@link Grid}
+   * @return a new {@code SolvingGrid} instance created from the {@link Grid}
+   */
+  static SolvingGrid of(Grid grid) {
+    return new SolvingGrid(grid);
+  }
+
+  /**
+   * Creates a new {@code SolvingGrid} instance from an existing instance.
+   *
+   * @param grid the existing {@code SolvingGrid} instance
+   * @return a new {@code SolvingGrid} instance copied from an existing instance
+   */
+  static SolvingGrid copyOf(SolvingGrid grid) {
+    return new SolvingGrid(grid);
+  }
+
+  private SolvingGrid(Grid grid) {
+    this.size = grid.getSize();
+    int numberOfCells = size * size;
+    this.numbers = new int[numberOfCells];
+    this.candidates = new int[numberOfCells];
+    this.rows = new int[size][size];
+    this.columns = new int[size][size];
+    this.streams = new int[size][];
+    this.streamIndexes = new int[numberOfCells];
+    this.streamPositions = new int[numberOfCells];
+    this.candidatePositions = new int[3 * size * size];
+    this.nakedSingles = new BitSet(numberOfCells);
+    this.hiddenSingles = new BitSet(candidatePositions.length);
+    this.groupVersions = new int[3 * size];
+    this.peers = grid.getPeers();
+    initializeCells(grid);
+    initializeStreams(grid);
+    this.groups = initializeGroups();
+    initializeIndexes();
+  }
+
+  private void initializeCells(Grid grid) {
+    for (Cell cell : grid.getCells()) {
+      int rowIndex = cell.getRowIndex();
+      int columnIndex = cell.getColumnIndex();
+      int index = rowIndex * size + columnIndex;
+      numbers[index] = cell.getNumber();
+      candidates[index] = Candidates.fromNumbers(cell.getPossibleNumbers());
+      rows[rowIndex][columnIndex] = index;
+      columns[columnIndex][rowIndex] = index;
+      if (!cell.isSet()) {
+        numberOfUnsetCells++;
+      }
+    }
+  }
+
+  private void initializeStreams(Grid grid) {
+    // keep streams in the same order as the grid so methods find the same changes first
+    Map<Integer, Integer> streamIndexesByStream = new LinkedHashMap<>();
+    int[] streamSizes = new int[size];
+
+    for (Cell cell : grid.getCells()) {
+      Integer streamIndex = streamIndexesByStream.get(cell.getStreamIndex());
+      if (streamIndex == null) {
+        streamIndex = streamIndexesByStream.size();
+        streamIndexesByStream.put(cell.getStreamIndex(), streamIndex);
+        streams[streamIndex] = new int[size];
+      }
+      int index = cell.getRowIndex() * size + cell.getColumnIndex();
+      streamPositions[index] = streamSizes[streamIndex];
+      streams[streamIndex][streamSizes[streamIndex]++] = index;
+      streamIndexes[index] = streamIndex;
+    }
+  }
+
+  private int[][] initializeGroups() {
+    int[][] allGroups = new int[rows.length + columns.length + streams.length][];
+    System.arraycopy(rows, 0, allGroups, 0, rows.length);
+    System.arraycopy(columns, 0, allGroups, rows.length, columns.length);
+    System.arraycopy(streams, 0, allGroups, rows.length + columns.length, streams.length);
+    return allGroups;
+  }
+
+  private void initializeIndexes() {
+    for (int cell = 0; cell < numbers.length; cell++) {
+      nakedSingles.set(cell, Candidates.size(candidates[cell]) == 1);
+      updateCandidatePositions(cell, NONE, candidates[cell]);
+    }
+  }
+
+  private SolvingGrid(SolvingGrid grid) {
+    this.size = grid.size;
+    this.numbers = grid.numbers.clone();
+    this.candidates = grid.candidates.clone();
+    this.numberOfUnsetCells = grid.numberOfUnsetCells;
+    this.rows = grid.rows;
+    this.columns = grid.columns;
+    this.streams = grid.streams;
+    this.groups = grid.groups;
+    this.streamIndexes = grid.streamIndexes;
+    this.streamPositions = grid.streamPositions;
+    this.peers = grid.peers;
+    this.candidatePositions = grid.candidatePositions.clone();
+    this.nakedSingles = (BitSet) grid.nakedSingles.clone();
+    this.hiddenSingles = (BitSet) grid.hiddenSingles.clone();
+    this.groupVersions = grid.groupVersions.clone();
+    if (grid.trail != null) {
+      // copies made while trailing can be undone to the same marks as the original
+      this.trail = grid.trail.clone();
+      this.trailSize = grid.trailSize;
+    }
+  }
+
+  /**
+   * Returns the size of this {@code SolvingGrid}.
+   *
+   * @return the size of this {@code SolvingGrid}
+   */
+  int getSize() {
+    return size;
+  }
+
+  /**
+   * Returns the number of cells in this {@code SolvingGrid}.
+   *
+   * @return the number of cells in this {@code SolvingGrid}
+   */
+  int getNumberOfCells() {
+    return numbers.length;
+  }
+
+  /**
+   * Returns the rows as arrays of cell indexes.
+   *
+   * @return the rows as arrays of cell indexes
+   */
+  int[][] getRows() {
+    return rows;
+  }
+
+  /**
+   * Returns the columns as arrays of cell indexes.
+   *
+   * @return the columns as arrays of cell indexes
+   */
+  int[][] getColumns() {
+    return columns;
+  }
+
+  /**
+   * Returns the streams as arrays of cell indexes.
+   *
+   * @return the streams as arrays of cell indexes
+   */
+  int[][] getStreams() {
+    return streams;
+  }
+
+  /**
+   * Returns every row, column and stream, in that order.
+   *
+   * @return every row, column and stream, in that order
+   */
+  int[][] getGroups() {
+    return groups;
+  }
+
+  /**
+   * Returns the index into {@link #getGroups()} of the row with the given index.
+   *
+   * @param rowIndex the row index
+   * @return the index into {@link #getGroups()} of the row
+   */
+  int getRowGroup(int rowIndex) {
+    return rowIndex;
+  }
+
+  /**
+   * Returns the index into {@link #getGroups()} of the column with the given index.
+   *
+   * @param columnIndex the column index
+   * @return the index into {@link #getGroups()} of the column
+   */
+  int getColumnGroup(int columnIndex) {
+    return size + columnIndex;
+  }
+
+  /**
+   * Returns the index into {@link #getGroups()} of the stream with the given index.
+   *
+   * @param streamIndex the index into {@link #getStreams()}
+   * @return the index into {@link #getGroups()} of the stream
+   */
+  int getStreamGroup(int streamIndex) {
+    return 2 * size + streamIndex;
+  }
+
+  /**
+   * Returns the row index of the cell.
+   *
+   * @param cell the cell index
+   * @return the row index of the cell
+   */
+  int getRowIndex(int cell) {
+    return cell / size;
+  }
+
+  /**
+   * Returns the column index of the cell.
+   *
+   * @param cell the cell index
+   * @return the column index of the cell
+   */
+  int getColumnIndex(int cell) {
+    return cell % size;
+  }
+
+  /**
+   * Returns the index into {@link #getStreams()} of the stream containing the cell.
+   *
+   * @param cell the cell index
+   * @return the index into {@link #getStreams()} of the stream containing the cell
+   */
+  int getStreamIndex(int cell) {
+    return streamIndexes[cell];
+  }
+
+  /**
+   * Returns the {@link Position} of the cell.
+   *
+   * @param cell the cell index
+   * @return the {@link Position} of the cell
+   */
+  Position getPosition(int cell) {
+    return new Position(getRowIndex(cell), getColumnIndex(cell));
+  }
+
+  /**
+   * Returns the cell's number, 0 if it is not set.
+   *
+   * @param cell the cell index
+   * @return the cell's number, 0 if it is not set
+   */
+  int getNumber(int cell) {
+    return numbers[cell];
+  }
+
+  /**
+   * Returns {@code true} if the cell's number has been set; {@code false} otherwise.
+   *
+   * @param cell the cell index
+   * @return {@code true} if the cell's number has been set; {@code false} otherwise
+   */
+  boolean isSet(int cell) {
+    return numbers[cell] != NO_NUMBER;
+  }
+
+  /**
+   * Sets the cell's number and removes it from the possible numbers of every cell in the same row,
+   * column and stream.
+   *
+   * @param cell the cell index
+   * @param number the number to set
+   */
+  void setNumber(int cell, int number) {
+    record(cell);
+    if (!isSet(cell)) {
+      numberOfUnsetCells--;
+    }
+    numbers[cell] = number;
+    setCandidates(cell, NONE);
+    int candidate = Candidates.of(number);
+    for (int peer : peers[cell]) {
+      retainCandidates(peer, ~candidate);
+    }
+  }
+
+  /**
+   * Returns the cell's possible numbers as a bitmask.
+   *
+   * @param cell the cell index
+   * @return the cell's possible numbers as a bitmask
+   */
+  int getCandidates(int cell) {
+    return candidates[cell];
+  }
+
+  /**
+   * Returns {@code true} if the cell contains the number in its possible numbers.
+   *
+   * @param cell the cell index
+   * @param number the number
+   * @return {@code true} if the cell contains the number in its possible numbers
+   */
+  boolean containsCandidate(int cell, int number) {
+    return Candidates.contains(candidates[cell], number);
+  }
+
+  /**
+   * Removes the bitmask of numbers from the cell's possible numbers.
+   *
+   * @param cell the cell index
+   * @param candidatesToRemove the bitmask of numbers to remove
+   * @return {@code true} if the cell's possible numbers changed; {@code false} otherwise
+   */
+  boolean removeCandidates(int cell, int candidatesToRemove) {
+    return retainCandidates(cell, ~candidatesToRemove);
+  }
+
+  /**
+   * Keeps only the bitmask of numbers in the cell's possible numbers.
+   *
+   * @param cell the cell index
+   * @param candidatesToRetain the bitmask of numbers to keep
+   * @return {@code true} if the cell's possible numbers changed; {@code false} otherwise
+   */
+  boolean retainCandidates(int cell, int candidatesToRetain) {
+    int original = candidates[cell];
+    int retained = original & candidatesToRetain;
+    if (retained == original) {
+      return false;
+    }
+    record(cell);
+    setCandidates(cell, retained);
+    return true;
+  }
+
+  /**
+   * Returns the positions in the group where the number is possible as a bitmask, bit i being set
+   * if the cell at position i of the group contains the number in its possible numbers.
+   *
+   * @param group the index into {@link #getGroups()}
+   * @param number the number
+   * @return the positions in the group where the number is possible as a bitmask
+   */
+  int getCandidatePositions(int group, int number) {
+    return candidatePositions[group * size + number - 1];
+  }
+
+  /**
+   * Returns the first cell with a single possible number, -1 if there isn't one.
+   *
+   * @return the first cell with a single possible number, -1 if there isn't one
+   */
+  int findFirstNakedSingle() {
+    return nakedSingles.nextSetBit(0);
+  }
+
+  /**
+   * Returns the index into {@link #getGroups()} of the first group, from the given group onwards,
+   * with a number that is possible in only one of its cells, -1 if there isn't one.
+   *
+   * @param fromGroup the index into {@link #getGroups()} to start looking from
+   * @return the index of the first group with a number possible in only one of its cells, -1 if
+   *     there isn't one
+   */
+  int findFirstGroupWithHiddenSingle(int fromGroup) {
+    int index = hiddenSingles.nextSetBit(fromGroup * size);
+    return index == -1 ? -1 : index / size;
+  }
+
+  /**
+   * Returns the group's version, which goes up whenever the possible numbers of one of its cells
+   * change.
+   *
+   * @param group the index into {@link #getGroups()}
+   * @return the group's version
+   */
+  int getGroupVersion(int group) {
+    return groupVersions[group];
+  }
+
+  private void setCandidates(int cell, int newCandidates) {
+    updateCandidatePositions(cell, candidates[cell], newCandidates);
+    candidates[cell] = newCandidates;
+    nakedSingles.set(cell, Candidates.size(newCandidates) == 1);
+  }
+
+  private void updateCandidatePositions(int cell, int previousCandidates, int newCandidates) {
+    int changed = previousCandidates ^ newCandidates;
+    if (changed == NONE) {
+      return;
+    }
+
+    int rowIndex = getRowIndex(cell);
+    int columnIndex = getColumnIndex(cell);
+    int rowGroup = getRowGroup(rowIndex);
+    int columnGroup = getColumnGroup(columnIndex);
+    int streamGroup = getStreamGroup(streamIndexes[cell]);
+    groupVersions[rowGroup]++;
+    groupVersions[columnGroup]++;
+    groupVersions[streamGroup]++;
+
+    // a number's position bit flips whenever the number is added or removed
+    for (; changed != NONE; changed &= changed - 1) {
+      int numberIndex = numberOfTrailingZeros(changed);
+      flipCandidatePosition(rowGroup * size + numberIndex, columnIndex);
+      flipCandidatePosition(columnGroup * size + numberIndex, rowIndex);
+      flipCandidatePosition(streamGroup * size + numberIndex, streamPositions[cell]);
+    }
+  }
+
+  private void flipCandidatePosition(int index, int position) {
+    candidatePositions[index] ^= 1 << position;
+    hiddenSingles.set(index, bitCount(candidatePositions[index]) == 1);
+  }
+
+  /**
+   * Starts recording changes to this {@code SolvingGrid} so they can be undone with {@link
+   * #undoTo(int)}.
+   */
+  void startTrail() {
+    if (trail == null) {
+      trail = new int[TRAIL_ENTRY_SIZE * numbers.length];
+    }
+  }
+
+  /**
+   * Returns a mark for the current point in the trail which can later be passed to {@link
+   * #undoTo(int)}.
+   *
+   * @return a mark for the current point in the trail
+   */
+  int getTrailMark() {
+    return trailSize;
+  }
+
+  /**
+   * Undoes every change recorded since the trail mark was taken.
+   *
+   * @param mark the trail mark to undo to
+   */
+  void undoTo(int mark) {
+    while (trailSize > mark) {
+      int previousCandidates = trail[--trailSize];
+      int previousNumber = trail[--trailSize];
+      int cell = trail[--trailSize];
+      if (previousNumber == NO_NUMBER && isSet(cell)) {
+        numberOfUnsetCells++;
+      }
+      numbers[cell] = previousNumber;
+      setCandidates(cell, previousCandidates);
+    }
+  }
+
+  private void record(int cell) {
+    if (trail != null) {
+      if (trailSize + TRAIL_ENTRY_SIZE > trail.length) {
+        trail = Arrays.copyOf(trail, trail.length * 2);
+      }
+      trail[trailSize++] = cell;
+      trail[trailSize++] = numbers[cell];
+      trail[trailSize++] = candidates[cell];
+    }
+  }
+
+  /**
+   * Returns the index of the first cell that is not set, -1 if all cells are set.
+   *
+   * @return the index of the first cell that is not set, -1 if all cells are set
+   */
+  int findFirstUnsetCell() {
+    for (int cell = 0; cell < numbers.length; cell++) {
+      if (!isSet(cell)) {
+        return cell;
+      }
+    }
+    return -1;
+  }
+
+  /**
+   * Returns {@code true} if every cell is set and each row, column and stream contains every
+   * number; {@code false} otherwise.
+   *
+   * @return {@code true} if this {@code SolvingGrid} is solved; {@code false} otherwise
+   */
+  boolean isSolved() {
+    return numberOfUnsetCells == 0 && containsAllNumbers(rows) && containsAllNumbers(columns)
+        && containsAllNumbers(streams);
+  }
+
+  private boolean containsAllNumbers(int[][] groups) {
+    int allNumbers = Candidates.all(size);
+    for (int[] group : groups) {
+      int numbersInGroup = NONE;
+      for (int cell : group) {
+        numbersInGroup |= Candidates.of(numbers[cell]);
+      }
+      if (numbersInGroup != allNumbers) {
+        return false;
+      }
+    }
+    return true;
+  }
+
+  /**
+   * Returns the numbers of this {@code SolvingGrid} as a 2D array indexed by row then column.
+   *
+   * @return the numbers of this {@code SolvingGrid} as a 2D array
+   */
+  int[][] getSolution() {
+    int[][] solution = new int[size][];
+    for (int rowIndex = 0; rowIndex < size; rowIndex++) {
+      solution[rowIndex] = Arrays.copyOfRange(numbers, rowIndex * size, (rowIndex + 1) * size);
+    }
+    return solution;
+  }
+
+  /**
+   * Copies the numbers and possible numbers of this {@code SolvingGrid} into a {@link Grid}.
+   *
+   * @param grid the {@link Grid} to copy into
+   */
+  void copyTo(Grid grid) {
+    for (Cell cell : grid.getCells()) {
+      int index = cell.getRowIndex() * size + cell.getColumnIndex();
+      if (cell.getNumber() != numbers[index]) {
+        cell.setNumber(numbers[index]);
+      }
+      cell.getPossibleNumbers().retainAll(Candidates.toNumbers(candidates[index]));
+    }
+  }
+
+}
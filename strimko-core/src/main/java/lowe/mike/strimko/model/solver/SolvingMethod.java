@@ -0,0 +1,42 @@
+package lowe.mike.strimko.model.solver;
+
+import java.util.Collection;
+import java.util.function.Predicate;
+import lowe.mike.strimko.model.Grid;
+import lowe.mike.strimko.model.Position;
+
+/**
+ * {@code SolvingMethod} represents a solving method that subclasses define the specific
+ * implementations for.
+ *
+ * @author Mike Lowe
+ */
+class SolvingMethod {
+
+  /**
+   * Adds a hint given the cell to get positional information from.
+   *
+   * @param grid the {@link SolvingGrid}
+   * @param cell the cell index
+   * @param hints the {@link Collection} of hints
+   */
+  static void addToHints(SolvingGrid grid, int cell, Collection<Position> hints) {
+    hints.add(grid.getPosition(cell));
+  }
+
+  /**
+   * Runs a solving method over a {@link Grid} by converting it to a {@link SolvingGrid} and copying
+   * any changes back afterwards.
+   *
+   * @param grid the {@link Grid} to run the method over
+   * @param method the solving method
+   * @return {@code true} if any changes where made to the {@link Grid}, {@code false} otherwise
+   */
+  static boolean runOverGrid(Grid grid, Predicate<SolvingGrid> method) {
+    SolvingGrid solvingGrid = SolvingGrid.of(grid);
+    boolean changed = method.test(solvingGrid);
+    solvingGrid.copyTo(grid);
+    return changed;
+  }
+
+}
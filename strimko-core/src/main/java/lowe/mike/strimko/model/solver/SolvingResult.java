@@ -17,6 +17,10 @@ import lowe.mike.strimko.model.Puzzle;
  * <p>Stored information includes a {@link Grid}'s {@link Difficulty}, the solution and a {@link
  * Collection} of hints.
  *
+ * <p>If solving was stopped before it finished, the {@code SolvingResult} is marked as timed out,
+ * the solution holds 0 for every cell that had not yet been worked out and the {@link Difficulty}
+ * is only as hard as the methods that had been needed so far.
+ *
  * @author Mike Lowe
  */
 public final class SolvingResult {
@@ -24,6 +28,7 @@ public final class SolvingResult {
   private final Difficulty difficulty;
   private final int[][] solution;
   private final Collection<Position> hints;
+  private final boolean isTimedOut;
 
   /**
    * Creates a new {@code SolvingResult} given the {@link Difficulty}, the solution and a {@link
@@ -34,9 +39,24 @@ public final class SolvingResult {
    * @param hints the {@link Collection} of hints
    */
   public SolvingResult(Difficulty difficulty, int[][] solution, Collection<Position> hints) {
+    this(difficulty, solution, hints, false);
+  }
+
+  /**
+   * Creates a new {@code SolvingResult} given the {@link Difficulty}, the solution, a {@link
+   * Collection} of hints and if solving timed out.
+   *
+   * @param difficulty the {@link Difficulty}
+   * @param solution the solution, 0 for cells not worked out if solving timed out
+   * @param hints the {@link Collection} of hints
+   * @param isTimedOut if solving was stopped before it finished
+   */
+  public SolvingResult(Difficulty difficulty, int[][] solution, Collection<Position> hints,
+      boolean isTimedOut) {
     this.difficulty = difficulty;
     this.solution = solution;
     this.hints = hints;
+    this.isTimedOut = isTimedOut;
   }
 
   /**
@@ -66,9 +86,38 @@ public final class SolvingResult {
     return hints;
   }
 
+  /**
+   * Returns {@code true} if solving was stopped before it finished; {@code false} otherwise.
+   *
+   * @return {@code true} if solving was stopped before it finished; {@code false} otherwise
+   */
+  public boolean isTimedOut() {
+    return isTimedOut;
+  }
+
+  /**
+   * Returns the fraction of cells whose numbers had been worked out, from 0 to 1. This is 1 unless
+   * solving timed out.
+   *
+   * @return the fraction of cells whose numbers had been worked out
+   */
+  public double getProgress() {
+    int numberOfCells = 0;
+    int numberOfSetCells = 0;
+    for (int[] row : solution) {
+      for (int number : row) {
+        numberOfCells++;
+        if (number != 0) {
+          numberOfSetCells++;
+        }
+      }
+    }
+    return numberOfCells == 0 ? 1 : (double) numberOfSetCells / numberOfCells;
+  }
+
   @Override
   public int hashCode() {
-    return hash(difficulty, solution, hints);
+    return hash(difficulty, solution, hints, isTimedOut);
   }
 
   @Override
@@ -83,7 +132,7 @@ public final class SolvingResult {
       return false;
     }
     SolvingResult other = (SolvingResult) obj;
-    if (difficulty != other.difficulty) {
+    if (difficulty != other.difficulty || isTimedOut != other.isTimedOut) {
       return false;
     }
     if (!deepEquals(solution, other.solution)) {
@@ -0,0 +1,266 @@
+package lowe.mike.strimko.model.solver;
+
+import static com.google.common.base.Preconditions.checkArgument;
+
+import java.io.DataInput;
+import java.io.DataOutput;
+import java.io.IOException;
+import java.util.Collection;
+import java.util.LinkedHashMap;
+import java.util.LinkedHashSet;
+import java.util.Map;
+import java.util.function.BooleanSupplier;
+import lowe.mike.strimko.model.CanonicalForm;
+import lowe.mike.strimko.model.Difficulty;
+import lowe.mike.strimko.model.Grid;
+import lowe.mike.strimko.model.Position;
+import lowe.mike.strimko.model.Puzzle;
+
+/**
+ * {@code SolvingResultCache} instances hold a bounded number of {@link SolvingResult}s so that the
+ * same {@link Grid} does not need to be solved again, such as when a {@link Puzzle} is opened more
+ * than once. When full, the least recently used {@link SolvingResult} is evicted.
+ *
+ * <p>Results are keyed by the {@link CanonicalForm} of a {@link Grid}'s streams and numbers and
+ * held in terms of the canonical {@link Grid}, so a {@link Grid} that is the same puzzle as one
+ * solved before up to symmetry is not solved again either. Its solution and hints are mapped back
+ * from the canonical {@link Grid}, so the hints are valid but may not be in the order the {@link
+ * Solver} would find them. Only {@link Grid}s whose possible numbers follow from their numbers, as
+ * they do when a {@link Puzzle} is created, should be solved through the cache. The cache can be
+ * written to and read back from a binary stream so that it survives restarts.
+ *
+ * <p>Instances are safe to use from multiple threads.
+ *
+ * @author Mike Lowe
+ */
+public final class SolvingResultCache {
+
+  public static final int DEFAULT_CAPACITY = 1024;
+
+  private static final SolvingResultCache DEFAULT = new SolvingResultCache(DEFAULT_CAPACITY);
+
+  // changed whenever the written format changes
+  private static final int FORMAT_VERSION = 2;
+
+  private final int capacity;
+  private final Map<Long, SolvingResult> results;
+
+  /**
+   * Creates a new {@code SolvingResultCache} instance.
+   *
+   * @param capacity the maximum number of {@link SolvingResult}s held
+   * @throws IllegalArgumentException if {@code capacity} is not positive
+   */
+  public SolvingResultCache(int capacity) {
+    checkArgument(capacity > 0, "Capacity must be positive");
+    this.capacity = capacity;
+    this.results = new LinkedHashMap<Long, SolvingResult>(16, 0.75f, true) {
+
+      private static final long serialVersionUID = -6315096322516591482L;
+
+      @Override
+      protected boolean removeEldestEntry(Map.Entry<Long, SolvingResult> eldest) {
+        return size() > SolvingResultCache.this.capacity;
+      }
+
+    };
+  }
+
+  /**
+   * Returns the {@code SolvingResultCache} shared by {@link Puzzle}s.
+   *
+   * @return the {@code SolvingResultCache} shared by {@link Puzzle}s
+   */
+  public static SolvingResultCache getDefault() {
+    return DEFAULT;
+  }
+
+  /**
+   * Returns the cached {@link SolvingResult} for the given {@link Grid}, solving and caching it
+   * with the {@link Solver} if it has not been solved before.
+   *
+   * @param grid the {@link Grid} to solve
+   * @return the {@link SolvingResult} containing useful information from solving
+   * @throws IllegalArgumentException if {@code grid} is not solvable or has multiple solutions
+   */
+  public SolvingResult solve(Grid grid) {
+    return solve(grid, () -> false);
+  }
+
+  /**
+   * Returns the cached {@link SolvingResult} for the given {@link Grid}, solving it with the {@link
+   * Solver} if it has not been solved before and stopping early once {@code shouldStop} returns
+   * {@code true}. A result that timed out is returned but not cached.
+   *
+   * @param grid the {@link Grid} to solve
+   * @param shouldStop returns {@code true} when solving should stop, checked every so often
+   * @return the {@link SolvingResult} containing useful information from solving
+   * @throws IllegalArgumentException if {@code grid} is not solvable or has multiple solutions
+   */
+  public SolvingResult solve(Grid grid, BooleanSupplier shouldStop) {
+    CanonicalForm canonicalForm = CanonicalForm.of(grid);
+    long key = canonicalForm.getKey();
+
+    SolvingResult canonicalResult = get(key);
+    if (canonicalResult != null) {
+      return fromCanonical(canonicalForm, canonicalResult);
+    }
+
+    SolvingResult result = Solver.solve(grid, shouldStop);
+    if (!result.isTimedOut()) {
+      put(key, toCanonical(canonicalForm, result));
+    }
+    return result;
+  }
+
+  private static SolvingResult toCanonical(CanonicalForm canonicalForm, SolvingResult result) {
+    Collection<Position> canonicalHints = new LinkedHashSet<>();
+    for (Position hint : result.getHints()) {
+      canonicalHints.add(canonicalForm.toCanonical(hint));
+    }
+    return new SolvingResult(result.getDifficulty(),
+        canonicalForm.toCanonical(result.getSolution()), canonicalHints);
+  }
+
+  private static SolvingResult fromCanonical(CanonicalForm canonicalForm,
+      SolvingResult canonicalResult) {
+    Collection<Position> hints = new LinkedHashSet<>();
+    for (Position canonicalHint : canonicalResult.getHints()) {
+      hints.add(canonicalForm.fromCanonical(canonicalHint));
+    }
+    return new SolvingResult(canonicalResult.getDifficulty(),
+        canonicalForm.fromCanonical(canonicalResult.getSolution()), hints);
+  }
+
+  /**
+   * Returns whether a {@link SolvingResult} is held for the given {@link Grid} or one that is the
+   * same puzzle up to symmetry.
+   *
+   * @param grid the {@link Grid}
+   * @return {@code true} if a {@link SolvingResult} is held for {@code grid}, {@code false}
+   *     otherwise
+   */
+  public boolean contains(Grid grid) {
+    return get(CanonicalForm.of(grid).getKey()) != null;
+  }
+
+  /**
+   * Returns the number of {@link SolvingResult}s held.
+   *
+   * @return the number of {@link SolvingResult}s held
+   */
+  public synchronized int size() {
+    return results.size();
+  }
+
+  /**
+   * Returns the maximum number of {@link SolvingResult}s held.
+   *
+   * @return the maximum number of {@link SolvingResult}s held
+   */
+  public int getCapacity() {
+    return capacity;
+  }
+
+  /**
+   * Removes all of the {@link SolvingResult}s held.
+   */
+  public synchronized void clear() {
+    results.clear();
+  }
+
+  private synchronized SolvingResult get(long key) {
+    return results.get(key);
+  }
+
+  private synchronized void put(long key, SolvingResult result) {
+    results.put(key, result);
+  }
+
+  /**
+   * Writes the {@link SolvingResult}s held, from least to most recently used.
+   *
+   * @param output the {@link DataOutput} to write to
+   * @throws IOException if the {@link SolvingResult}s could not be written
+   */
+  public synchronized void writeTo(DataOutput output) throws IOException {
+    output.writeInt(FORMAT_VERSION);
+    output.writeInt(results.size());
+    for (Map.Entry<Long, SolvingResult> entry : results.entrySet()) {
+      output.writeLong(entry.getKey());
+      writeSolvingResult(output, entry.getValue());
+    }
+  }
+
+  private static void writeSolvingResult(DataOutput output, SolvingResult result)
+      throws IOException {
+    output.writeUTF(result.getDifficulty().name());
+
+    int[][] solution = result.getSolution();
+    output.writeByte(solution.length);
+    for (int[] row : solution) {
+      for (int number : row) {
+        output.writeByte(number);
+      }
+    }
+
+    Collection<Position> hints = result.getHints();
+    output.writeShort(hints.size());
+    for (Position hint : hints) {
+      output.writeByte(hint.getRowIndex());
+      output.writeByte(hint.getColumnIndex());
+    }
+  }
+
+  /**
+   * Reads {@link SolvingResult}s written by {@link #writeTo(DataOutput)} into this cache, evicting
+   * the least recently used if there are more than it can hold.
+   *
+   * @param input the {@link DataInput} to read from
+   * @throws IOException if the {@link SolvingResult}s could not be read
+   */
+  public void readFrom(DataInput input) throws IOException {
+    int version = input.readInt();
+    if (version != FORMAT_VERSION) {
+      throw new IOException("Unsupported solving result format " + version);
+    }
+
+    int numberOfResults = input.readInt();
+    for (int i = 0; i < numberOfResults; i++) {
+      long key = input.readLong();
+      put(key, readSolvingResult(input));
+    }
+  }
+
+  private static SolvingResult readSolvingResult(DataInput input) throws IOException {
+    Difficulty difficulty = readDifficulty(input);
+
+    int size = input.readUnsignedByte();
+    int[][] solution = new int[size][size];
+    for (int[] row : solution) {
+      for (int columnIndex = 0; columnIndex < size; columnIndex++) {
+        row[columnIndex] = input.readUnsignedByte();
+      }
+    }
+
+    int numberOfHints = input.readUnsignedShort();
+    Collection<Position> hints = new LinkedHashSet<>();
+    for (int i = 0; i < numberOfHints; i++) {
+      int rowIndex = input.readUnsignedByte();
+      int columnIndex = input.readUnsignedByte();
+      hints.add(new Position(rowIndex, columnIndex));
+    }
+
+    return new SolvingResult(difficulty, solution, hints);
+  }
+
+  private static Difficulty readDifficulty(DataInput input) throws IOException {
+    String name = input.readUTF();
+    try {
+      return Difficulty.valueOf(name);
+    } catch (IllegalArgumentException e) {
+      throw new IOException("Unknown difficulty '" + name + "'");
+    }
+  }
+
+}
@@ -0,0 +1,139 @@
+package lowe.mike.strimko;
+
+import static java.nio.charset.StandardCharsets.UTF_8;
+import static java.nio.file.Files.copy;
+import static java.util.Arrays.asList;
+import static lowe.mike.strimko.StrimkoRater.fromArguments;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNotNull;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.PrintStream;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.List;
+import lowe.mike.strimko.StrimkoRater.Format;
+import lowe.mike.strimko.model.FileHandlingException;
+import org.junit.jupiter.api.BeforeAll;
+import org.junit.jupiter.api.Test;
+
+/**
+ * {@link StrimkoRater} tests.
+ *
+ * @author Mike Lowe
+ */
+public final class StrimkoRaterTests {
+
+  private static Path TEST_PUZZLE_DIRECTORY;
+
+  private static final Collection<String> PATHS_TO_PUZZLES = asList(
+      "Strimko/Easy/Test-Strimko-1.txt", "Strimko/Medium/Test-Invalid-Strimko-1.txt",
+      "Sudoku/Easy/Test-Sudoku-1.txt");
+
+  @BeforeAll
+  public static void setup() throws IOException {
+    TEST_PUZZLE_DIRECTORY = Files.createTempDirectory("strimko");
+    copyPuzzlesToDirectory(TEST_PUZZLE_DIRECTORY, PATHS_TO_PUZZLES);
+  }
+
+  private static void copyPuzzlesToDirectory(Path outputDirectory,
+      Collection<String> pathsToPuzzles) throws IOException {
+    for (String pathToPuzzle : pathsToPuzzles) {
+      Path outputPath = outputDirectory.resolve(pathToPuzzle);
+      Files.createDirectories(outputPath.getParent());
+      try (InputStream inputStream = StrimkoRaterTests.class
+          .getResourceAsStream("/puzzles/" + pathToPuzzle)) {
+        copy(inputStream, outputPath);
+      }
+    }
+  }
+
+  @Test
+  public void test_rate_csv() throws FileHandlingException, InterruptedException {
+    // setup
+    StrimkoRater rater = new StrimkoRater(TEST_PUZZLE_DIRECTORY, Format.CSV, 2);
+    ByteArrayOutputStream out = new ByteArrayOutputStream();
+    ByteArrayOutputStream err = new ByteArrayOutputStream();
+
+    // execution
+    int numberOfFailures = rater.rate(new PrintStream(out, true), new PrintStream(err, true));
+
+    // verification
+    List<String> lines = toLines(out);
+    assertEquals(1, numberOfFailures);
+    assertEquals(3, lines.size());
+    assertEquals("path,size,type,difficulty,solveNanos,hintCount", lines.get(0));
+    assertTrue(containsLineMatching(lines,
+        ".*Test-Strimko-1\\.txt,4,Strimko,(Easy|Medium|Hard),\\d+,\\d+"));
+    assertTrue(containsLineMatching(lines,
+        ".*Test-Sudoku-1\\.txt,9,Sudoku,(Easy|Medium|Hard),\\d+,\\d+"));
+    assertTrue(new String(err.toByteArray(), UTF_8).contains("Test-Invalid-Strimko-1.txt"));
+  }
+
+  @Test
+  public void test_rate_ndjson() throws FileHandlingException, InterruptedException {
+    // setup
+    StrimkoRater rater = new StrimkoRater(TEST_PUZZLE_DIRECTORY, Format.NDJSON, 1);
+    ByteArrayOutputStream out = new ByteArrayOutputStream();
+    ByteArrayOutputStream err = new ByteArrayOutputStream();
+
+    // execution
+    int numberOfFailures = rater.rate(new PrintStream(out, true), new PrintStream(err, true));
+
+    // verification
+    List<String> lines = toLines(out);
+    assertEquals(1, numberOfFailures);
+    assertEquals(2, lines.size());
+    assertTrue(containsLineMatching(lines, "\\{\"path\":\".*Test-Strimko-1\\.txt\",\"size\":4,"
+        + "\"type\":\"Strimko\",\"difficulty\":\"(Easy|Medium|Hard)\",\"solveNanos\":\\d+,"
+        + "\"hintCount\":\\d+\\}"));
+  }
+
+  @Test
+  public void test_fromArguments() {
+    // execution
+    StrimkoRater rater = fromArguments("--format", "ndjson", "--threads", "3", "--timeout",
+        "1000", TEST_PUZZLE_DIRECTORY.toString());
+
+    // verification
+    assertNotNull(rater);
+  }
+
+  @Test
+  public void test_fromArguments_noDirectory() {
+    assertThrows(IllegalArgumentException.class, () -> fromArguments("--threads", "3"));
+  }
+
+  @Test
+  public void test_fromArguments_invalidFormat() {
+    assertThrows(IllegalArgumentException.class,
+        () -> fromArguments("--format", "xml", TEST_PUZZLE_DIRECTORY.toString()));
+  }
+
+  @Test
+  public void test_fromArguments_invalidThreads() {
+    assertThrows(IllegalArgumentException.class,
+        () -> fromArguments("--threads", "0", TEST_PUZZLE_DIRECTORY.toString()));
+  }
+
+  @Test
+  public void test_fromArguments_invalidTimeout() {
+    assertThrows(IllegalArgumentException.class,
+        () -> fromArguments("--timeout", "-1", TEST_PUZZLE_DIRECTORY.toString()));
+  }
+
+  private static List<String> toLines(ByteArrayOutputStream out) {
+    return Arrays.asList(new String(out.toByteArray(), UTF_8).split(System.lineSeparator()));
+  }
+
+  private static boolean containsLineMatching(List<String> lines, String regex) {
+    return lines.stream().anyMatch(line -> line.matches(regex));
+  }
+
+}
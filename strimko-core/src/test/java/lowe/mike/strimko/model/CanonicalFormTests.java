@@ -0,0 +1,143 @@
+package lowe.mike.strimko.model;
+
+import static lowe.mike.strimko.model.Constants.SUDOKU_SIZE;
+import static lowe.mike.strimko.model.Constants.getSudokuStreams;
+import static lowe.mike.strimko.model.solver.Solver.solve;
+import static org.junit.jupiter.api.Assertions.assertArrayEquals;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNotEquals;
+
+import lowe.mike.strimko.model.Grid.GridBuilder;
+import org.junit.jupiter.api.Test;
+
+/**
+ * {@link CanonicalForm} tests.
+ *
+ * @author Mike Lowe
+ */
+public final class CanonicalFormTests {
+
+  private static final int SIZE = 4;
+  private static final int[][] STREAMS = {{1, 2, 2, 3}, {2, 1, 3, 2}, {4, 3, 1, 4},
+      {3, 4, 4, 1}};
+  private static final int[][] NUMBERS = {{0, 0, 0, 2}, {0, 0, 0, 0}, {0, 0, 0, 0},
+      {4, 0, 0, 1}};
+  private static final int[][] SUDOKU_NUMBERS = {{8, 0, 0, 0, 0, 0, 4, 6, 0},
+      {0, 9, 7, 6, 0, 1, 2, 0, 8}, {0, 4, 0, 8, 0, 5, 0, 1, 0}, {0, 0, 0, 2, 7, 9, 0, 0, 4},
+      {0, 5, 0, 0, 0, 0, 0, 2, 0}, {1, 0, 0, 4, 5, 3, 0, 0, 0}, {0, 7, 0, 3, 0, 6, 0, 9, 0},
+      {3, 0, 2, 9, 0, 7, 5, 4, 0}, {0, 6, 1, 0, 0, 0, 0, 0, 2}};
+
+  @Test
+  public void test_of_rotation() {
+    // setup
+    Grid grid = newGrid(SIZE, STREAMS, NUMBERS);
+    Grid rotatedGrid = newGrid(SIZE, rotate(STREAMS), rotate(NUMBERS));
+
+    // execution
+    CanonicalForm canonicalForm = CanonicalForm.of(grid);
+    CanonicalForm rotatedCanonicalForm = CanonicalForm.of(rotatedGrid);
+
+    // verification
+    assertEquals(canonicalForm, rotatedCanonicalForm);
+    assertEquals(canonicalForm.getKey(), rotatedCanonicalForm.getKey());
+  }
+
+  @Test
+  public void test_of_relabelling() {
+    // setup
+    Grid grid = newGrid(SIZE, STREAMS, NUMBERS);
+    int[] labels = {0, 3, 1, 4, 2};
+    Grid relabelledGrid = newGrid(SIZE, relabel(STREAMS, labels), relabel(NUMBERS, labels));
+
+    // execution and verification
+    assertEquals(CanonicalForm.of(grid), CanonicalForm.of(relabelledGrid));
+  }
+
+  @Test
+  public void test_of_sudokuBandsAndStacks() {
+    // setup
+    Grid grid = newGrid(SUDOKU_SIZE, getSudokuStreams(), SUDOKU_NUMBERS);
+    int[] lineOrder = {3, 4, 5, 0, 1, 2, 6, 7, 8};
+    int[][] numbers = new int[SUDOKU_SIZE][SUDOKU_SIZE];
+    for (int rowIndex = 0; rowIndex < SUDOKU_SIZE; rowIndex++) {
+      for (int columnIndex = 0; columnIndex < SUDOKU_SIZE; columnIndex++) {
+        int number = SUDOKU_NUMBERS[lineOrder[rowIndex]][lineOrder[columnIndex]];
+        numbers[rowIndex][columnIndex] = number;
+      }
+    }
+    Grid permutedGrid = newGrid(SUDOKU_SIZE, getSudokuStreams(), numbers);
+
+    // execution and verification
+    assertEquals(CanonicalForm.of(grid), CanonicalForm.of(permutedGrid));
+  }
+
+  @Test
+  public void test_of_differentPuzzles() {
+    // setup
+    Grid grid = newGrid(SIZE, STREAMS, NUMBERS);
+    int[][] numbers = {{0, 0, 0, 2}, {0, 0, 0, 0}, {0, 0, 0, 0}, {4, 0, 0, 0}};
+    Grid otherGrid = newGrid(SIZE, STREAMS, numbers);
+
+    // execution and verification
+    assertNotEquals(CanonicalForm.of(grid), CanonicalForm.of(otherGrid));
+  }
+
+  @Test
+  public void test_getStreamsAndNumbers() {
+    // setup
+    Grid grid = newGrid(SIZE, STREAMS, NUMBERS);
+    CanonicalForm canonicalForm = CanonicalForm.of(grid);
+
+    // execution
+    Grid canonicalGrid = newGrid(SIZE, canonicalForm.getStreams(), canonicalForm.getNumbers());
+
+    // verification
+    assertEquals(canonicalForm, CanonicalForm.of(canonicalGrid));
+  }
+
+  @Test
+  public void test_toCanonicalAndFromCanonical() {
+    // setup
+    Grid grid = newGrid(SIZE, rotate(STREAMS), rotate(NUMBERS));
+    CanonicalForm canonicalForm = CanonicalForm.of(grid);
+    Grid canonicalGrid = newGrid(SIZE, canonicalForm.getStreams(), canonicalForm.getNumbers());
+    int[][] solution = solve(grid).getSolution();
+    Position position = new Position(1, 2);
+
+    // execution
+    int[][] canonicalSolution = canonicalForm.toCanonical(solution);
+
+    // verification
+    assertArrayEquals(solve(canonicalGrid).getSolution(), canonicalSolution);
+    assertArrayEquals(solution, canonicalForm.fromCanonical(canonicalSolution));
+    assertEquals(position, canonicalForm.fromCanonical(canonicalForm.toCanonical(position)));
+  }
+
+  private static Grid newGrid(int size, int[][] streams, int[][] numbers) {
+    return new GridBuilder(size).setStreams(streams).setNumbers(numbers).build();
+  }
+
+  // rotates a quarter turn clockwise
+  private static int[][] rotate(int[][] array) {
+    int size = array.length;
+    int[][] rotated = new int[size][size];
+    for (int rowIndex = 0; rowIndex < size; rowIndex++) {
+      for (int columnIndex = 0; columnIndex < size; columnIndex++) {
+        rotated[rowIndex][columnIndex] = array[size - 1 - columnIndex][rowIndex];
+      }
+    }
+    return rotated;
+  }
+
+  private static int[][] relabel(int[][] array, int[] labels) {
+    int size = array.length;
+    int[][] relabelled = new int[size][size];
+    for (int rowIndex = 0; rowIndex < size; rowIndex++) {
+      for (int columnIndex = 0; columnIndex < size; columnIndex++) {
+        relabelled[rowIndex][columnIndex] = labels[array[rowIndex][columnIndex]];
+      }
+    }
+    return relabelled;
+  }
+
+}
@@ -102,4 +102,37 @@ public final class CellTests {
     assertEquals(NUMBER, cell.getNumber());
   }
 
+  @Test
+  public void test_hashCode() {
+    // setup
+    Cell cell = getNewInstance();
+    final Cell other = getNewInstance();
+    final int hashCode = cell.hashCode();
+
+    // execution
+    cell.setNumber(NUMBER);
+    cell.getPossibleNumbers().clear();
+    cell.clearNumber();
+    cell.getPossibleNumbers().addAll(POSSIBLE_NUMBERS);
+
+    // verification
+    assertEquals(other, cell);
+    assertEquals(hashCode, cell.hashCode());
+    assertEquals(other.hashCode(), cell.hashCode());
+  }
+
+  @Test
+  public void test_hashCode_possibleNumberRemoved() {
+    // setup
+    Cell cell = getNewInstance();
+    Cell other = getNewInstance();
+
+    // execution
+    cell.getPossibleNumbers().remove(1);
+
+    // verification
+    assertNotEquals(other, cell);
+    assertNotEquals(other.hashCode(), cell.hashCode());
+  }
+
 }
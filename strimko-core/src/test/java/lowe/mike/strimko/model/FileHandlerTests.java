@@ -6,21 +6,31 @@ import static lowe.mike.strimko.model.Constants.getSudokuStreams;
 import static lowe.mike.strimko.model.Difficulty.EASY;
 import static lowe.mike.strimko.model.Difficulty.MEDIUM;
 import static lowe.mike.strimko.model.FileHandler.copyPuzzlesToDirectory;
+import static lowe.mike.strimko.model.FileHandler.findDuplicate;
 import static lowe.mike.strimko.model.FileHandler.listPuzzleFileNames;
+import static lowe.mike.strimko.model.FileHandler.listPuzzleFiles;
 import static lowe.mike.strimko.model.FileHandler.read;
+import static lowe.mike.strimko.model.FileHandler.readGrid;
 import static lowe.mike.strimko.model.FileHandler.readPathsToPuzzles;
+import static lowe.mike.strimko.model.FileHandler.readSolvingResults;
 import static lowe.mike.strimko.model.FileHandler.write;
+import static lowe.mike.strimko.model.FileHandler.writeSolvingResults;
 import static lowe.mike.strimko.model.Type.STRIMKO;
 import static lowe.mike.strimko.model.Type.SUDOKU;
 import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNull;
 import static org.junit.jupiter.api.Assertions.assertThrows;
 import static org.junit.jupiter.api.Assertions.assertTrue;
 
 import java.io.File;
 import java.io.IOException;
 import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
 import java.util.Collection;
+import java.util.List;
 import lowe.mike.strimko.model.Grid.GridBuilder;
+import lowe.mike.strimko.model.solver.SolvingResultCache;
 import org.junit.jupiter.api.BeforeAll;
 import org.junit.jupiter.api.Test;
 
@@ -117,6 +127,31 @@ public final class FileHandlerTests {
     assertTrue(result.containsAll(expected));
   }
 
+  @Test
+  public void test_listPuzzleFiles() throws FileHandlingException {
+    // setup
+    Path expected = Paths.get(TEST_PUZZLE_DIRECTORY, "Strimko", "Easy", "Test-Strimko-1.txt");
+
+    // execution
+    List<Path> result = listPuzzleFiles(TEST_PUZZLE_DIRECTORY, STRIMKO, EASY);
+
+    // verification
+    assertEquals(2, result.size());
+    assertTrue(result.contains(expected));
+  }
+
+  @Test
+  public void test_readGrid() throws FileHandlingException {
+    // setup
+    Path path = Paths.get(TEST_PUZZLE_DIRECTORY, "Sudoku", "Easy", "Test-Sudoku-1.txt");
+
+    // execution
+    Grid result = readGrid(path, SUDOKU);
+
+    // verification
+    assertEquals(SUDOKU_GRID, result);
+  }
+
   @Test
   public void test_read_invalid() {
     assertThrows(FileHandlingException.class,
@@ -170,4 +205,65 @@ public final class FileHandlerTests {
     assertEquals(expectedPuzzle, actualPuzzle);
   }
 
+  @Test
+  public void test_writeAndReadSolvingResults() throws IOException, FileHandlingException {
+    // setup
+    String puzzleDirectory = Files.createTempDirectory("strimko").toAbsolutePath().toString();
+    SolvingResultCache cache = new SolvingResultCache(SolvingResultCache.DEFAULT_CAPACITY);
+    cache.solve(STRIMKO_GRID);
+    cache.solve(SUDOKU_GRID);
+    SolvingResultCache readCache = new SolvingResultCache(SolvingResultCache.DEFAULT_CAPACITY);
+
+    // execution
+    writeSolvingResults(puzzleDirectory, cache);
+    readSolvingResults(puzzleDirectory, readCache);
+
+    // verification
+    assertEquals(2, readCache.size());
+    assertEquals(cache.solve(SUDOKU_GRID), readCache.solve(SUDOKU_GRID));
+  }
+
+  @Test
+  public void test_readSolvingResults_noFile() throws IOException, FileHandlingException {
+    // setup
+    String puzzleDirectory = Files.createTempDirectory("strimko").toAbsolutePath().toString();
+    SolvingResultCache cache = new SolvingResultCache(SolvingResultCache.DEFAULT_CAPACITY);
+
+    // execution
+    readSolvingResults(puzzleDirectory, cache);
+
+    // verification
+    assertEquals(0, cache.size());
+  }
+
+  @Test
+  public void test_findDuplicate() throws FileHandlingException {
+    // setup
+    Grid grid = read(TEST_PUZZLE_DIRECTORY, SUDOKU, MEDIUM, "Test-Sudoku-1").getGrid();
+    int[][] transposedNumbers = new int[SUDOKU_SIZE][SUDOKU_SIZE];
+    for (Cell cell : grid.getCells()) {
+      transposedNumbers[cell.getColumnIndex()][cell.getRowIndex()] = cell.getNumber();
+    }
+    Grid transposedGrid = new GridBuilder(SUDOKU_SIZE).setStreams(getSudokuStreams())
+        .setNumbers(transposedNumbers).build();
+
+    // execution
+    String result = findDuplicate(TEST_PUZZLE_DIRECTORY, new Puzzle(SUDOKU, transposedGrid));
+
+    // verification
+    assertEquals("Test-Sudoku-1", result);
+  }
+
+  @Test
+  public void test_findDuplicate_noDuplicate() throws IOException, FileHandlingException {
+    // setup
+    String puzzleDirectory = Files.createTempDirectory("strimko").toAbsolutePath().toString();
+
+    // execution
+    String result = findDuplicate(puzzleDirectory, STRIMKO_PUZZLE);
+
+    // verification
+    assertNull(result);
+  }
+
 }
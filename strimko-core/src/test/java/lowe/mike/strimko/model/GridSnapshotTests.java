@@ -0,0 +1,119 @@
+package lowe.mike.strimko.model;
+
+import static java.util.Arrays.asList;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertNotEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.util.HashSet;
+import lowe.mike.strimko.model.Grid.GridBuilder;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+/**
+ * {@link GridSnapshot} tests.
+ *
+ * @author Mike Lowe
+ */
+public final class GridSnapshotTests {
+
+  private static final int SIZE = 3;
+  private static final int[][] STREAMS = {{1, 1, 2}, {1, 2, 3}, {2, 3, 3}};
+  private static final int[][] NUMBERS = {{0, 0, 0}, {1, 3, 2}, {0, 0, 0}};
+  private Grid grid;
+
+  @BeforeEach
+  public void setup() {
+    grid = new GridBuilder(SIZE).setStreams(STREAMS).setNumbers(NUMBERS).build();
+  }
+
+  @Test
+  public void test_of() {
+    // setup
+    grid.getCell(0, 0).setNumber(3);
+
+    // execution
+    GridSnapshot snapshot = GridSnapshot.of(grid);
+
+    // verification
+    assertEquals(SIZE, snapshot.getSize());
+    for (Cell cell : grid.getCells()) {
+      int rowIndex = cell.getRowIndex();
+      int columnIndex = cell.getColumnIndex();
+      assertEquals(cell.getNumber(), snapshot.getNumber(rowIndex, columnIndex));
+      assertEquals(cell.getStreamIndex(), snapshot.getStreamIndex(rowIndex, columnIndex));
+      assertEquals(cell.isLocked(), snapshot.isLocked(rowIndex, columnIndex));
+      assertEquals(cell.getPossibleNumbers(), snapshot.getPossibleNumbers(rowIndex, columnIndex));
+    }
+  }
+
+  @Test
+  public void test_of_withoutPossibleNumbers() {
+    // execution
+    GridSnapshot snapshot = GridSnapshot.of(grid, false);
+
+    // verification
+    assertFalse(snapshot.hasPossibleNumbers());
+    assertThrows(IllegalStateException.class, () -> snapshot.getPossibleNumbers(0, 0));
+  }
+
+  @Test
+  public void test_toGrid() {
+    // setup
+    grid.getCell(0, 0).setNumber(3);
+    grid.getCell(2, 2).getPossibleNumbers().remove(1);
+    GridSnapshot snapshot = GridSnapshot.of(grid);
+
+    // execution
+    Grid copy = snapshot.toGrid();
+
+    // verification
+    assertEquals(grid, copy);
+    assertTrue(copy.getCell(1, 0).isLocked());
+    assertFalse(copy.getCell(0, 0).isLocked());
+  }
+
+  @Test
+  public void test_restoreTo() {
+    // setup
+    final Grid expected = Grid.copyOf(grid);
+    final GridSnapshot snapshot = GridSnapshot.of(grid);
+    grid.getCell(0, 0).setNumber(3);
+    grid.getCell(0, 1).setNumber(2);
+    grid.getCell(2, 2).getPossibleNumbers().remove(1);
+
+    // execution
+    snapshot.restoreTo(grid);
+
+    // verification
+    assertEquals(expected, grid);
+    assertEquals(new HashSet<>(asList(1, 3)), grid.getCell(2, 2).getPossibleNumbers());
+  }
+
+  @Test
+  public void test_restoreTo_differentStreams() {
+    // setup
+    GridSnapshot snapshot = GridSnapshot.of(grid);
+    int[][] streams = {{1, 2, 2}, {1, 1, 2}, {3, 3, 3}};
+    Grid otherGrid = new GridBuilder(SIZE).setStreams(streams).build();
+
+    // execution and verification
+    assertThrows(IllegalArgumentException.class, () -> snapshot.restoreTo(otherGrid));
+  }
+
+  @Test
+  public void test_equals() {
+    // setup
+    GridSnapshot snapshot = GridSnapshot.of(grid);
+
+    // execution and verification
+    assertEquals(snapshot, GridSnapshot.of(Grid.copyOf(grid)));
+    assertEquals(snapshot.hashCode(), GridSnapshot.of(Grid.copyOf(grid)).hashCode());
+    assertNotEquals(snapshot, GridSnapshot.of(grid, false));
+    grid.getCell(0, 0).setNumber(3);
+    assertNotEquals(snapshot, GridSnapshot.of(grid));
+  }
+
+}
@@ -1,8 +1,10 @@
 package lowe.mike.strimko.model;
 
 import static java.util.Arrays.asList;
+import static java.util.Collections.singleton;
 import static lowe.mike.strimko.model.Constants.NO_NUMBER;
 import static lowe.mike.strimko.model.Grid.copyOf;
+import static org.junit.jupiter.api.Assertions.assertArrayEquals;
 import static org.junit.jupiter.api.Assertions.assertEquals;
 import static org.junit.jupiter.api.Assertions.assertFalse;
 import static org.junit.jupiter.api.Assertions.assertNotEquals;
@@ -10,6 +12,7 @@ import static org.junit.jupiter.api.Assertions.assertNotSame;
 import static org.junit.jupiter.api.Assertions.assertTrue;
 
 import java.util.Collection;
+import java.util.HashSet;
 import lowe.mike.strimko.model.Grid.GridBuilder;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
@@ -84,6 +87,42 @@ public final class GridTests {
     }
   }
 
+  @Test
+  public void test_getRowColumnAndStream() {
+    // setup
+    Cell cell = grid.getCell(1, 2);
+
+    // execution and verification
+    assertEquals(asList(grid.getCell(1, 0), grid.getCell(1, 1), cell), grid.getRow(1));
+    assertEquals(asList(grid.getCell(0, 2), cell, grid.getCell(2, 2)), grid.getColumn(2));
+    assertEquals(asList(cell, grid.getCell(2, 1), grid.getCell(2, 2)), grid.getStream(3));
+    assertTrue(grid.getStream(SIZE + 1).isEmpty());
+  }
+
+  @Test
+  public void test_getPeers() {
+    // execution
+    int[][] peers = grid.getPeers();
+
+    // verification
+    assertEquals(SIZE * SIZE, peers.length);
+    assertArrayEquals(new int[]{3, 4, 2, 8, 7}, peers[5]);
+    assertArrayEquals(peers, copyOf(grid).getPeers());
+  }
+
+  @Test
+  public void test_getPeers_modified() {
+    // setup
+    int[][] peers = grid.getPeers();
+
+    // execution
+    peers[5][0] = 0;
+
+    // verification
+    assertArrayEquals(new int[]{3, 4, 2, 8, 7}, grid.getPeers()[5]);
+    assertArrayEquals(new int[]{3, 4, 2, 8, 7}, copyOf(grid).getPeers()[5]);
+  }
+
   @Test
   public void test_cellNumbers() {
     for (int rowIndex = 0; rowIndex < SIZE; rowIndex++) {
@@ -109,6 +148,25 @@ public final class GridTests {
     assertTrue(cell.getPossibleNumbers().containsAll(possibleNumbers));
   }
 
+  @Test
+  public void test_cellPossibleNumbers_overwriteNumber() {
+    // setup
+    Cell cell = grid.getCell(0, 0);
+    cell.setNumber(2);
+    Cell cellInOtherGroups = grid.getCell(2, 2);
+    cellInOtherGroups.getPossibleNumbers().remove(3);
+
+    // execution
+    cell.setNumber(3);
+
+    // verification
+    assertTrue(cell.getPossibleNumbers().isEmpty());
+    assertEquals(singleton(2), grid.getCell(0, 1).getPossibleNumbers());
+    assertEquals(singleton(1), cellInOtherGroups.getPossibleNumbers());
+    cell.clearNumber();
+    assertEquals(new HashSet<>(asList(2, 3)), cell.getPossibleNumbers());
+  }
+
   @Test
   public void test_getNumberOccurrences() {
     // setup
@@ -150,6 +208,28 @@ public final class GridTests {
     assertTrue(grid.isSolved());
   }
 
+  @Test
+  public void test_isSolved_duplicateNumbers() {
+    // setup
+    int[][] numbers = {{3, 2, 1}, {1, 3, 2}, {2, 3, 1}};
+
+    // execution
+    for (int rowIndex = 0; rowIndex < SIZE; rowIndex++) {
+      for (int columnIndex = 0; columnIndex < SIZE; columnIndex++) {
+        grid.getCell(rowIndex, columnIndex).setNumber(numbers[rowIndex][columnIndex]);
+      }
+    }
+
+    // verification
+    assertFalse(grid.isSolved());
+    grid.getCell(2, 1).setNumber(SOLUTION[2][1]);
+    grid.getCell(2, 2).setNumber(SOLUTION[2][2]);
+    assertTrue(grid.isSolved());
+    assertTrue(copyOf(grid).isSolved());
+    grid.getCell(0, 0).clearNumber();
+    assertFalse(grid.isSolved());
+  }
+
   @Test
   public void test_reset() {
     // setup
@@ -177,4 +257,26 @@ public final class GridTests {
     assertNotEquals(grid, copy);
   }
 
+  @Test
+  public void test_hashCode() {
+    // setup
+    final Grid other = new GridBuilder(SIZE).setStreams(STREAMS).setNumbers(NUMBERS).build();
+    final int hashCode = grid.hashCode();
+    Cell cell = grid.getCell(0, 0);
+
+    // execution
+    cell.setNumber(1);
+    cell.setNumber(SOLUTION[0][0]);
+    cell.clearNumber();
+
+    // verification
+    assertEquals(other, grid);
+    assertEquals(hashCode, grid.hashCode());
+    assertEquals(other.hashCode(), grid.hashCode());
+    cell.setNumber(SOLUTION[0][0]);
+    assertNotEquals(other, grid);
+    assertNotEquals(other.hashCode(), grid.hashCode());
+    assertEquals(copyOf(grid).hashCode(), grid.hashCode());
+  }
+
 }
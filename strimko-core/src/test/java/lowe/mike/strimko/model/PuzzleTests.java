@@ -3,8 +3,11 @@ package lowe.mike.strimko.model;
 import static lowe.mike.strimko.model.Type.STRIMKO;
 import static org.junit.jupiter.api.Assertions.assertEquals;
 import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertThrows;
 
+import java.util.concurrent.CancellationException;
 import lowe.mike.strimko.model.Grid.GridBuilder;
+import lowe.mike.strimko.model.solver.SolvingResultCache;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
 
@@ -15,6 +18,7 @@ import org.junit.jupiter.api.Test;
  */
 public final class PuzzleTests {
 
+  private Grid grid;
   private Puzzle puzzle;
 
   /**
@@ -25,10 +29,20 @@ public final class PuzzleTests {
     int size = 3;
     int[][] streams = {{1, 1, 2}, {1, 2, 3}, {2, 3, 3}};
     int[][] numbers = {{0, 0, 0}, {1, 3, 2}, {0, 0, 0}};
-    Grid grid = new GridBuilder(size).setStreams(streams).setNumbers(numbers).build();
+    grid = new GridBuilder(size).setStreams(streams).setNumbers(numbers).build();
     puzzle = new Puzzle(STRIMKO, grid);
   }
 
+  @Test
+  public void test_constructor_stopped() {
+    // setup
+    // make sure the grid has to be solved again
+    SolvingResultCache.getDefault().clear();
+
+    // execution
+    assertThrows(CancellationException.class, () -> new Puzzle(STRIMKO, grid, () -> true));
+  }
+
   @Test
   public void test_getNextHint_firstHint() {
     // setup
@@ -0,0 +1,214 @@
+package lowe.mike.strimko.model.solver;
+
+import static lowe.mike.strimko.model.solver.BruteForceMethod.enumerateSolutions;
+import static lowe.mike.strimko.model.solver.BruteForceMethod.run;
+import static lowe.mike.strimko.model.solver.BruteForceMethod.runInParallel;
+import static lowe.mike.strimko.model.solver.BruteForceMethod.runMinimumRemainingValues;
+import static org.junit.jupiter.api.Assertions.assertArrayEquals;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNotNull;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Spliterator;
+import lowe.mike.strimko.model.Grid;
+import org.junit.jupiter.api.Test;
+
+/**
+ * {@link BruteForceMethod} tests.
+ *
+ * @author Mike Lowe
+ */
+public final class BruteForceMethodTests extends SolvingMethodTests {
+
+  @Test
+  public void test_run_solvable() {
+    // setup
+    int size = 5;
+    int[][] streams = {{1, 1, 2, 2, 2}, {2, 2, 1, 3, 3}, {1, 1, 3, 4, 3}, {5, 4, 4, 5, 3},
+        {5, 5, 5, 4, 4}};
+    int[][] numbers = {{0, 0, 3, 0, 0}, {0, 4, 0, 1, 0}, {0, 0, 0, 0, 0}, {0, 0, 0, 0, 0},
+        {0, 0, 5, 0, 0}};
+    Grid grid = newStrimkoGrid(size, streams, numbers);
+
+    // execution
+    Grid solvedGrid = run(grid);
+
+    // verification
+    assertTrue(solvedGrid.isSolved());
+  }
+
+  @Test
+  public void test_run_multipleSolutions() {
+    // setup
+    int size = 3;
+    int[][] streams = {{1, 1, 1}, {2, 2, 2}, {3, 3, 3}};
+    int[][] numbers = {{0, 1, 0}, {0, 0, 0}, {0, 0, 0}};
+    Grid grid = newStrimkoGrid(size, streams, numbers);
+
+    // execution
+    assertThrows(IllegalArgumentException.class,
+        () -> run(grid));
+  }
+
+  @Test
+  public void test_run_unsolvable() {
+    // setup
+    int size = 4;
+    int[][] streams = {{1, 2, 2, 3}, {2, 1, 3, 2}, {4, 3, 1, 4}, {3, 4, 4, 1}};
+    int[][] numbers = {{2, 0, 0, 0}, {0, 0, 0, 0}, {0, 0, 0, 0}, {0, 0, 0, 0}};
+    Grid grid = newStrimkoGrid(size, streams, numbers);
+    grid.getCell(0, 1).setNumber(2);
+
+    // execution
+    assertThrows(IllegalArgumentException.class,
+        () -> run(grid));
+  }
+
+  @Test
+  public void test_run_filled() {
+    // setup
+    int size = 6;
+    int[][] streams = {{1, 2, 3, 4, 5, 6}, {1, 2, 3, 4, 5, 6}, {1, 2, 3, 4, 5, 6},
+        {1, 2, 3, 4, 5, 6},
+        {1, 2, 3, 4, 5, 6}, {1, 2, 3, 4, 5, 6}};
+    int[][] numbers = {{1, 2, 3, 4, 5, 6}, {2, 3, 4, 5, 6, 1}, {3, 4, 5, 6, 1, 2},
+        {4, 5, 6, 1, 2, 3},
+        {5, 6, 1, 2, 3, 4}, {6, 1, 2, 3, 4, 5}};
+    Grid grid = newStrimkoGrid(size, streams, numbers);
+
+    // execution
+    assertThrows(IllegalArgumentException.class,
+        () -> run(grid));
+  }
+
+  @Test
+  public void test_runMinimumRemainingValues_solvable() {
+    // setup
+    int[][] numbers = {{8, 0, 0, 0, 0, 0, 0, 0, 0}, {0, 0, 3, 6, 0, 0, 0, 0, 0},
+        {0, 7, 0, 0, 9, 0, 2, 0, 0}, {0, 5, 0, 0, 0, 7, 0, 0, 0}, {0, 0, 0, 0, 4, 5, 7, 0, 0},
+        {0, 0, 0, 1, 0, 0, 0, 3, 0}, {0, 0, 1, 0, 0, 0, 0, 6, 8}, {0, 0, 8, 5, 0, 0, 0, 1, 0},
+        {0, 9, 0, 0, 0, 0, 4, 0, 0}};
+    Grid grid = newSudokuGrid(numbers);
+
+    // execution
+    Grid solvedGrid = runMinimumRemainingValues(grid);
+
+    // verification
+    assertTrue(solvedGrid.isSolved());
+    assertEquals(ExactCoverMethod.run(grid), solvedGrid);
+  }
+
+  @Test
+  public void test_runMinimumRemainingValues_multipleSolutions() {
+    // setup
+    int size = 3;
+    int[][] streams = {{1, 1, 1}, {2, 2, 2}, {3, 3, 3}};
+    int[][] numbers = {{0, 1, 0}, {0, 0, 0}, {0, 0, 0}};
+    Grid grid = newStrimkoGrid(size, streams, numbers);
+
+    // execution
+    assertThrows(IllegalArgumentException.class,
+        () -> runMinimumRemainingValues(grid));
+  }
+
+  @Test
+  public void test_runMinimumRemainingValues_unsolvable() {
+    // setup
+    int size = 4;
+    int[][] streams = {{1, 2, 2, 3}, {2, 1, 3, 2}, {4, 3, 1, 4}, {3, 4, 4, 1}};
+    int[][] numbers = {{2, 0, 0, 0}, {0, 0, 0, 0}, {0, 0, 0, 0}, {0, 0, 0, 0}};
+    Grid grid = newStrimkoGrid(size, streams, numbers);
+    grid.getCell(0, 1).setNumber(2);
+
+    // execution
+    assertThrows(IllegalArgumentException.class,
+        () -> runMinimumRemainingValues(grid));
+  }
+
+  @Test
+  public void test_runInParallel_solvable() {
+    // setup
+    int[][] numbers = {{8, 0, 0, 0, 0, 0, 0, 0, 0}, {0, 0, 3, 6, 0, 0, 0, 0, 0},
+        {0, 7, 0, 0, 9, 0, 2, 0, 0}, {0, 5, 0, 0, 0, 7, 0, 0, 0}, {0, 0, 0, 0, 4, 5, 7, 0, 0},
+        {0, 0, 0, 1, 0, 0, 0, 3, 0}, {0, 0, 1, 0, 0, 0, 0, 6, 8}, {0, 0, 8, 5, 0, 0, 0, 1, 0},
+        {0, 9, 0, 0, 0, 0, 4, 0, 0}};
+    Grid grid = newSudokuGrid(numbers);
+
+    // execution
+    Grid solvedGrid = runInParallel(grid);
+
+    // verification
+    assertTrue(solvedGrid.isSolved());
+    assertEquals(ExactCoverMethod.run(grid), solvedGrid);
+  }
+
+  @Test
+  public void test_runInParallel_multipleSolutions() {
+    // setup
+    int[][] numbers = new int[9][9];
+    Grid grid = newSudokuGrid(numbers);
+
+    // execution
+    assertThrows(IllegalArgumentException.class,
+        () -> runInParallel(grid));
+  }
+
+  @Test
+  public void test_runInParallel_unsolvable() {
+    // setup
+    int size = 4;
+    int[][] streams = {{1, 2, 2, 3}, {2, 1, 3, 2}, {4, 3, 1, 4}, {3, 4, 4, 1}};
+    int[][] numbers = {{2, 0, 0, 0}, {0, 0, 0, 0}, {0, 0, 0, 0}, {0, 0, 0, 0}};
+    Grid grid = newStrimkoGrid(size, streams, numbers);
+    grid.getCell(0, 1).setNumber(2);
+
+    // execution
+    assertThrows(IllegalArgumentException.class,
+        () -> runInParallel(grid));
+  }
+
+  @Test
+  public void test_enumerateSolutions() {
+    // setup
+    int size = 4;
+    int[][] streams = {{1, 2, 2, 3}, {2, 1, 3, 2}, {4, 3, 1, 4}, {3, 4, 4, 1}};
+    int[][] numbers = {{0, 0, 0, 2}, {0, 0, 0, 0}, {0, 0, 0, 0}, {4, 0, 0, 1}};
+    Grid grid = newStrimkoGrid(size, streams, numbers);
+    List<int[][]> solutions = new ArrayList<>();
+
+    // execution
+    enumerateSolutions(SolvingGrid.of(grid)).forEachRemaining(solutions::add);
+
+    // verification
+    assertEquals(1, solutions.size());
+    assertArrayEquals(SolvingGrid.of(run(grid)).getSolution(), solutions.get(0));
+  }
+
+  @Test
+  public void test_enumerateSolutions_trySplit() {
+    // setup
+    int size = 4;
+    int[][] streams = {{1, 1, 1, 1}, {2, 2, 2, 2}, {3, 3, 3, 3}, {4, 4, 4, 4}};
+    int[][] numbers = new int[size][size];
+    Grid grid = newStrimkoGrid(size, streams, numbers);
+    Spliterator<int[][]> spliterator = enumerateSolutions(SolvingGrid.of(grid));
+    List<int[][]> solutions = new ArrayList<>();
+    spliterator.tryAdvance(solutions::add);
+
+    // execution
+    Spliterator<int[][]> split = spliterator.trySplit();
+
+    // verification
+    // there are 576 latin squares of size 4
+    assertNotNull(split);
+    spliterator.forEachRemaining(solutions::add);
+    int numberOfSolutionsBeforeSplit = solutions.size();
+    split.forEachRemaining(solutions::add);
+    assertTrue(numberOfSolutionsBeforeSplit < 576);
+    assertEquals(576, solutions.size());
+  }
+
+}
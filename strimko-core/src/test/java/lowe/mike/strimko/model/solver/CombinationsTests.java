@@ -0,0 +1,55 @@
+package lowe.mike.strimko.model.solver;
+
+import static lowe.mike.strimko.model.Constants.MAX_GRID_SIZE;
+import static lowe.mike.strimko.model.Constants.MIN_GRID_SIZE;
+import static org.junit.jupiter.api.Assertions.assertArrayEquals;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertSame;
+
+import org.junit.jupiter.api.Test;
+
+/**
+ * {@link Combinations} tests.
+ *
+ * @author Mike Lowe
+ */
+public final class CombinationsTests {
+
+  private static final int N = 2;
+  private static final int SIZE = 4;
+
+  @Test
+  public void test_of() {
+    // setup
+    int[] expectedCombinations = {
+        Candidates.of(1) | Candidates.of(2),
+        Candidates.of(1) | Candidates.of(3),
+        Candidates.of(2) | Candidates.of(3),
+        Candidates.of(1) | Candidates.of(4),
+        Candidates.of(2) | Candidates.of(4),
+        Candidates.of(3) | Candidates.of(4)};
+
+    // execution
+    int[] combinations = Combinations.of(N, SIZE);
+
+    // verification
+    assertArrayEquals(expectedCombinations, combinations);
+    assertSame(combinations, Combinations.of(N, SIZE));
+  }
+
+  @Test
+  public void test_of_allSizes() {
+    for (int gridSize = MIN_GRID_SIZE; gridSize <= MAX_GRID_SIZE; gridSize++) {
+      int numberOfCombinations = 0;
+      for (int combinationSize = 0; combinationSize <= gridSize; combinationSize++) {
+        for (int combination : Combinations.of(combinationSize, gridSize)) {
+          assertEquals(combinationSize, Candidates.size(combination));
+          numberOfCombinations++;
+        }
+      }
+      // every non-empty subset of the numbers
+      assertEquals((1 << gridSize) - 1, numberOfCombinations);
+    }
+  }
+
+}
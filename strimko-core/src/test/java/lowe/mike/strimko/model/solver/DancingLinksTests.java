@@ -0,0 +1,99 @@
+package lowe.mike.strimko.model.solver;
+
+import static org.junit.jupiter.api.Assertions.assertArrayEquals;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.util.Arrays;
+import org.junit.jupiter.api.Test;
+
+/**
+ * {@link DancingLinks} tests.
+ *
+ * @author Mike Lowe
+ */
+public final class DancingLinksTests {
+
+  /**
+   * Knuth's example matrix which has a single exact cover made up of rows 0, 3 and 4.
+   */
+  private static DancingLinks newKnuthExample() {
+    DancingLinks dancingLinks = new DancingLinks(7, 16, 6);
+    dancingLinks.addRow(0, 2, 4, 5);
+    dancingLinks.addRow(1, 0, 3, 6);
+    dancingLinks.addRow(2, 1, 2, 5);
+    dancingLinks.addRow(3, 0, 3);
+    dancingLinks.addRow(4, 1, 6);
+    dancingLinks.addRow(5, 3, 4, 6);
+    return dancingLinks;
+  }
+
+  @Test
+  public void test_solve_singleSolution() {
+    // setup
+    DancingLinks dancingLinks = newKnuthExample();
+
+    // execution
+    int numberOfSolutions = dancingLinks.solve(2);
+
+    // verification
+    assertEquals(1, numberOfSolutions);
+    int[] solution = dancingLinks.getFirstSolution();
+    Arrays.sort(solution);
+    assertArrayEquals(new int[]{0, 3, 4}, solution);
+  }
+
+  @Test
+  public void test_solve_multipleSolutions() {
+    // setup
+    DancingLinks dancingLinks = new DancingLinks(2, 4, 2);
+    dancingLinks.addRow(0, 0, 1);
+    dancingLinks.addRow(1, 0);
+    dancingLinks.addRow(2, 1);
+
+    // execution and verification
+    assertEquals(1, dancingLinks.solve(1));
+    assertEquals(2, dancingLinks.solve(2));
+    assertEquals(2, dancingLinks.solve(3));
+  }
+
+  @Test
+  public void test_solve_noSolution() {
+    // setup
+    DancingLinks dancingLinks = new DancingLinks(3, 4, 3);
+    dancingLinks.addRow(0, 0, 1);
+    dancingLinks.addRow(1, 1, 2);
+
+    // execution
+    int numberOfSolutions = dancingLinks.solve(2);
+
+    // verification
+    assertEquals(0, numberOfSolutions);
+    assertNull(dancingLinks.getFirstSolution());
+  }
+
+  @Test
+  public void test_solve_stopped() {
+    // setup
+    // each column can be covered by either of two rows, so there are 2^12 solutions
+    int numberOfColumns = 12;
+    DancingLinks dancingLinks = new DancingLinks(numberOfColumns, 2 * numberOfColumns,
+        numberOfColumns);
+    for (int column = 0; column < numberOfColumns; column++) {
+      dancingLinks.addRow(2 * column, column);
+      dancingLinks.addRow(2 * column + 1, column);
+    }
+
+    // execution
+    int numberOfSolutions = dancingLinks.solve(Integer.MAX_VALUE, () -> true);
+
+    // verification
+    assertTrue(dancingLinks.isStopped());
+    assertTrue(numberOfSolutions < 1 << numberOfColumns);
+    assertEquals(1 << numberOfColumns, dancingLinks.solve(Integer.MAX_VALUE));
+    assertFalse(dancingLinks.isStopped());
+  }
+
+}
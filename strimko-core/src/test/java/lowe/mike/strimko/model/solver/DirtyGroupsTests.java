@@ -0,0 +1,62 @@
+package lowe.mike.strimko.model.solver;
+
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+/**
+ * {@link DirtyGroups} tests.
+ *
+ * @author Mike Lowe
+ */
+public final class DirtyGroupsTests extends SolvingMethodTests {
+
+  private SolvingGrid grid;
+  private DirtyGroups dirtyGroups;
+
+  @BeforeEach
+  public void setup() {
+    grid = SolvingGrid.of(newGridWithNoNumbers());
+    dirtyGroups = new DirtyGroups(grid);
+  }
+
+  @Test
+  public void test_isDirty() {
+    for (int group = 0; group < grid.getGroups().length; group++) {
+      assertTrue(dirtyGroups.isDirty(group));
+    }
+  }
+
+  @Test
+  public void test_setClean() {
+    // setup
+    int row = grid.getRowGroup(0);
+    int otherRow = grid.getRowGroup(1);
+    dirtyGroups.setClean(row);
+    dirtyGroups.setClean(otherRow);
+
+    // execution
+    grid.removeCandidates(0, Candidates.of(1));
+
+    // verification
+    assertTrue(dirtyGroups.isDirty(row));
+    assertTrue(dirtyGroups.isDirty(grid.getColumnGroup(0)));
+    assertFalse(dirtyGroups.isDirty(otherRow));
+  }
+
+  @Test
+  public void test_setClean_unchanged() {
+    // setup
+    int row = grid.getRowGroup(0);
+    dirtyGroups.setClean(row);
+
+    // execution
+    grid.removeCandidates(0, Candidates.NONE);
+
+    // verification
+    assertFalse(dirtyGroups.isDirty(row));
+  }
+
+}
@@ -1,6 +1,7 @@
 package lowe.mike.strimko.model.solver;
 
-import static lowe.mike.strimko.model.solver.BruteForceMethod.run;
+import static lowe.mike.strimko.model.solver.ExactCoverMethod.run;
+import static org.junit.jupiter.api.Assertions.assertEquals;
 import static org.junit.jupiter.api.Assertions.assertThrows;
 import static org.junit.jupiter.api.Assertions.assertTrue;
 
@@ -8,14 +9,14 @@ import lowe.mike.strimko.model.Grid;
 import org.junit.jupiter.api.Test;
 
 /**
- * {@link BruteForceMethod} tests.
+ * {@link ExactCoverMethod} tests.
  *
  * @author Mike Lowe
  */
-public final class BruteForceMethodTests extends SolvingMethodTests {
+public final class ExactCoverMethodTests extends SolvingMethodTests {
 
   @Test
-  public void test_run_solvable() {
+  public void test_run_solvableStrimko() {
     // setup
     int size = 5;
     int[][] streams = {{1, 1, 2, 2, 2}, {2, 2, 1, 3, 3}, {1, 1, 3, 4, 3}, {5, 4, 4, 5, 3},
@@ -31,6 +32,25 @@ public final class BruteForceMethodTests extends SolvingMethodTests {
     assertTrue(solvedGrid.isSolved());
   }
 
+  @Test
+  public void test_run_solvableSudoku() {
+    // setup
+    int[][] numbers = {{8, 0, 0, 0, 0, 0, 0, 0, 0}, {0, 0, 3, 6, 0, 0, 0, 0, 0},
+        {0, 7, 0, 0, 9, 0, 2, 0, 0}, {0, 5, 0, 0, 0, 7, 0, 0, 0}, {0, 0, 0, 0, 4, 5, 7, 0, 0},
+        {0, 0, 0, 1, 0, 0, 0, 3, 0}, {0, 0, 1, 0, 0, 0, 0, 6, 8}, {0, 0, 8, 5, 0, 0, 0, 1, 0},
+        {0, 9, 0, 0, 0, 0, 4, 0, 0}};
+    Grid grid = newSudokuGrid(numbers);
+
+    // execution
+    Grid solvedGrid = run(grid);
+
+    // verification
+    assertTrue(solvedGrid.isSolved());
+    assertEquals(8, solvedGrid.getCell(0, 0).getNumber());
+    assertEquals(1, solvedGrid.getCell(0, 1).getNumber());
+    assertEquals(2, solvedGrid.getCell(0, 2).getNumber());
+  }
+
   @Test
   public void test_run_multipleSolutions() {
     // setup
@@ -61,18 +81,16 @@ public final class BruteForceMethodTests extends SolvingMethodTests {
   @Test
   public void test_run_filled() {
     // setup
-    int size = 6;
-    int[][] streams = {{1, 2, 3, 4, 5, 6}, {1, 2, 3, 4, 5, 6}, {1, 2, 3, 4, 5, 6},
-        {1, 2, 3, 4, 5, 6},
-        {1, 2, 3, 4, 5, 6}, {1, 2, 3, 4, 5, 6}};
-    int[][] numbers = {{1, 2, 3, 4, 5, 6}, {2, 3, 4, 5, 6, 1}, {3, 4, 5, 6, 1, 2},
-        {4, 5, 6, 1, 2, 3},
-        {5, 6, 1, 2, 3, 4}, {6, 1, 2, 3, 4, 5}};
+    int size = 3;
+    int[][] streams = {{1, 1, 2}, {1, 2, 3}, {2, 3, 3}};
+    int[][] numbers = {{3, 2, 1}, {1, 3, 2}, {2, 1, 3}};
     Grid grid = newStrimkoGrid(size, streams, numbers);
 
     // execution
-    assertThrows(IllegalArgumentException.class,
-        () -> run(grid));
+    Grid solvedGrid = run(grid);
+
+    // verification
+    assertEquals(grid, solvedGrid);
   }
 
 }
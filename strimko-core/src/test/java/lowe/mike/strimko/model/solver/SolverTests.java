@@ -0,0 +1,317 @@
+package lowe.mike.strimko.model.solver;
+
+import static java.util.Arrays.deepEquals;
+import static java.util.Arrays.fill;
+import static java.util.stream.Collectors.toList;
+import static lowe.mike.strimko.model.Difficulty.EASY;
+import static lowe.mike.strimko.model.Difficulty.HARD;
+import static lowe.mike.strimko.model.Difficulty.MEDIUM;
+import static lowe.mike.strimko.model.solver.Solver.countSolutions;
+import static lowe.mike.strimko.model.solver.Solver.enumerateSolutions;
+import static lowe.mike.strimko.model.solver.Solver.hasUniqueSolution;
+import static lowe.mike.strimko.model.solver.Solver.solve;
+import static org.junit.jupiter.api.Assertions.assertArrayEquals;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+import lowe.mike.strimko.model.Difficulty;
+import lowe.mike.strimko.model.Grid;
+import org.junit.jupiter.api.Test;
+
+/**
+ * {@link Solver} tests.
+ *
+ * @author Mike Lowe
+ */
+public final class SolverTests extends SolvingMethodTests {
+
+  @Test
+  public void test_solve_easyStrimko() {
+    // setup
+    int size = 4;
+    int[][] streams = {{1, 2, 2, 3}, {2, 1, 3, 2}, {4, 3, 1, 4}, {3, 4, 4, 1}};
+    int[][] numbers = {{0, 0, 0, 2}, {0, 0, 0, 0}, {0, 0, 0, 0}, {4, 0, 0, 1}};
+    Grid grid = newStrimkoGrid(size, streams, numbers);
+
+    // execution
+    test_solve(grid, EASY);
+  }
+
+  @Test
+  public void test_solve_easySudoku() {
+    // setup
+    int[][] numbers = {{8, 0, 0, 0, 0, 0, 4, 6, 0}, {0, 9, 7, 6, 0, 1, 2, 0, 8},
+        {0, 4, 0, 8, 0, 5, 0, 1, 0},
+        {0, 0, 0, 2, 7, 9, 0, 0, 4}, {0, 5, 0, 0, 0, 0, 0, 2, 0}, {1, 0, 0, 4, 5, 3, 0, 0, 0},
+        {0, 7, 0, 3, 0, 6, 0, 9, 0}, {3, 0, 2, 9, 0, 7, 5, 4, 0}, {0, 6, 1, 0, 0, 0, 0, 0, 2}};
+    Grid grid = newSudokuGrid(numbers);
+
+    // execution
+    test_solve(grid, EASY);
+  }
+
+  @Test
+  public void test_solve_mediumStrimko() {
+    // setup
+    int size = 5;
+    int[][] streams = {{1, 1, 2, 2, 2}, {3, 1, 1, 2, 4}, {3, 3, 1, 4, 2}, {3, 5, 4, 5, 4},
+        {3, 5, 5, 5, 4}};
+    int[][] numbers = {{0, 0, 0, 0, 3}, {0, 0, 0, 0, 0}, {0, 0, 0, 0, 0}, {0, 0, 0, 0, 2},
+        {4, 0, 0, 1, 0}};
+    Grid grid = newStrimkoGrid(size, streams, numbers);
+
+    // execution
+    test_solve(grid, MEDIUM);
+  }
+
+  @Test
+  public void test_solve_mediumSudoku() {
+    // setup
+    int[][] numbers = {{0, 7, 0, 0, 0, 6, 0, 0, 0}, {5, 0, 0, 0, 0, 8, 0, 2, 0},
+        {8, 1, 0, 0, 2, 4, 0, 0, 0},
+        {0, 6, 5, 0, 0, 0, 0, 0, 7}, {3, 0, 0, 7, 0, 1, 0, 0, 6}, {7, 0, 0, 0, 0, 0, 5, 1, 0},
+        {0, 0, 0, 2, 4, 0, 0, 7, 1}, {0, 8, 0, 3, 0, 0, 0, 0, 5}, {0, 0, 0, 6, 0, 0, 0, 9, 0}};
+    Grid grid = newSudokuGrid(numbers);
+
+    // execution
+    test_solve(grid, MEDIUM);
+  }
+
+  @Test
+  public void test_solve_hardStrimko() {
+    // setup
+    Grid grid = newHardStrimkoGrid();
+
+    // execution
+    test_solve(grid, HARD);
+  }
+
+  @Test
+  public void test_solve_hardSudoku() {
+    // setups
+    int[][] numbers = {{2, 0, 0, 0, 1, 0, 0, 0, 8}, {0, 4, 0, 8, 0, 9, 0, 2, 0},
+        {0, 0, 1, 0, 0, 0, 9, 0, 0},
+        {0, 3, 0, 2, 0, 1, 0, 7, 0}, {4, 0, 0, 0, 0, 0, 0, 0, 1}, {0, 9, 0, 4, 0, 8, 0, 3, 0},
+        {0, 0, 4, 0, 0, 0, 3, 0, 0}, {0, 7, 0, 1, 0, 5, 0, 9, 0}, {6, 0, 0, 0, 9, 0, 0, 0, 2}};
+    Grid grid = newSudokuGrid(numbers);
+
+    // execution
+    test_solve(grid, HARD);
+  }
+
+  @Test
+  public void test_solve_withTimeout() {
+    // setup
+    Grid grid = newHardStrimkoGrid();
+
+    // execution
+    SolvingResult result = solve(grid, 1, TimeUnit.MINUTES);
+
+    // verification
+    assertFalse(result.isTimedOut());
+    assertEquals(1, result.getProgress());
+    assertEquals(solve(grid), result);
+  }
+
+  @Test
+  public void test_solve_stopped() {
+    // setup
+    Grid grid = newHardStrimkoGrid();
+
+    // execution
+    SolvingResult result = solve(grid, () -> true);
+
+    // verification
+    assertTrue(result.isTimedOut());
+    assertEquals(EASY, result.getDifficulty());
+    // only the 10 given numbers are known
+    assertEquals(10.0 / 49, result.getProgress());
+    assertEquals(5, result.getSolution()[1][4]);
+    assertEquals(0, result.getSolution()[0][0]);
+  }
+
+  @Test
+  public void test_solve_stoppedPartWay() {
+    // setup
+    Grid grid = newHardStrimkoGrid();
+    int[] numberOfChecks = {0};
+
+    // execution
+    SolvingResult result = solve(grid, () -> ++numberOfChecks[0] > 10);
+
+    // verification
+    assertTrue(result.isTimedOut());
+    assertTrue(result.getProgress() > 10.0 / 49);
+    assertTrue(result.getProgress() < 1);
+  }
+
+  @Test
+  public void test_countSolutions_unique() {
+    // setup
+    int size = 4;
+    int[][] streams = {{1, 2, 2, 3}, {2, 1, 3, 2}, {4, 3, 1, 4}, {3, 4, 4, 1}};
+    int[][] numbers = {{0, 0, 0, 2}, {0, 0, 0, 0}, {0, 0, 0, 0}, {4, 0, 0, 1}};
+    Grid grid = newStrimkoGrid(size, streams, numbers);
+
+    // execution
+    SolutionCount solutionCount = countSolutions(grid, 2);
+
+    // verification
+    assertTrue(solutionCount.hasUniqueSolution());
+    assertEquals(1, solutionCount.getSolutions().size());
+    assertArrayEquals(solve(grid).getSolution(), solutionCount.getSolutions().get(0));
+  }
+
+  @Test
+  public void test_countSolutions_multiple() {
+    // setup
+    int size = 3;
+    int[][] streams = {{1, 1, 1}, {2, 2, 2}, {3, 3, 3}};
+    int[][] numbers = {{0, 1, 0}, {0, 0, 0}, {0, 0, 0}};
+    Grid grid = newStrimkoGrid(size, streams, numbers);
+
+    // execution
+    SolutionCount solutionCount = countSolutions(grid, 100);
+
+    // verification
+    // first row can be 2,1,3 or 3,1,2 and then the other two rows can be swapped
+    assertEquals(4, solutionCount.getNumberOfSolutions());
+    assertEquals(4, solutionCount.getSolutions().size());
+    assertEquals(2, countSolutions(grid, 2).getNumberOfSolutions());
+  }
+
+  @Test
+  public void test_countSolutions_unsolvable() {
+    // setup
+    int size = 4;
+    int[][] streams = {{1, 2, 2, 3}, {2, 1, 3, 2}, {4, 3, 1, 4}, {3, 4, 4, 1}};
+    int[][] numbers = {{2, 0, 0, 0}, {0, 0, 0, 0}, {0, 0, 0, 0}, {0, 0, 0, 0}};
+    Grid grid = newStrimkoGrid(size, streams, numbers);
+    grid.getCell(0, 1).setNumber(2);
+
+    // execution
+    SolutionCount solutionCount = countSolutions(grid, 2);
+
+    // verification
+    assertFalse(solutionCount.hasUniqueSolution());
+    assertEquals(0, solutionCount.getNumberOfSolutions());
+    assertTrue(solutionCount.getSolutions().isEmpty());
+  }
+
+  @Test
+  public void test_countSolutions_invalidLimit() {
+    // setup
+    Grid grid = newGridWithNoNumbers();
+
+    // execution
+    assertThrows(IllegalArgumentException.class,
+        () -> countSolutions(grid, 0));
+  }
+
+  @Test
+  public void test_hasUniqueSolution_unique() {
+    // setup
+    Grid grid = newHardStrimkoGrid();
+
+    // execution and verification
+    assertTrue(hasUniqueSolution(grid));
+  }
+
+  @Test
+  public void test_hasUniqueSolution_multiple() {
+    // setup
+    int size = 3;
+    int[][] streams = {{1, 1, 1}, {2, 2, 2}, {3, 3, 3}};
+    int[][] numbers = {{0, 1, 0}, {0, 0, 0}, {0, 0, 0}};
+    Grid grid = newStrimkoGrid(size, streams, numbers);
+
+    // execution and verification
+    assertFalse(hasUniqueSolution(grid));
+  }
+
+  @Test
+  public void test_hasUniqueSolution_unsolvable() {
+    // setup
+    int size = 4;
+    int[][] streams = {{1, 2, 2, 3}, {2, 1, 3, 2}, {4, 3, 1, 4}, {3, 4, 4, 1}};
+    int[][] numbers = {{2, 0, 0, 0}, {0, 0, 0, 0}, {0, 0, 0, 0}, {0, 0, 0, 0}};
+    Grid grid = newStrimkoGrid(size, streams, numbers);
+    grid.getCell(0, 1).setNumber(2);
+
+    // execution and verification
+    assertFalse(hasUniqueSolution(grid));
+  }
+
+  @Test
+  public void test_enumerateSolutions() {
+    // setup
+    int size = 3;
+    int[][] streams = {{1, 1, 1}, {2, 2, 2}, {3, 3, 3}};
+    int[][] numbers = {{0, 1, 0}, {0, 0, 0}, {0, 0, 0}};
+    Grid grid = newStrimkoGrid(size, streams, numbers);
+
+    // execution
+    List<int[][]> solutions = enumerateSolutions(grid).collect(toList());
+
+    // verification
+    List<int[][]> expectedSolutions = countSolutions(grid, 100).getSolutions();
+    assertEquals(expectedSolutions.size(), solutions.size());
+    for (int[][] expectedSolution : expectedSolutions) {
+      assertTrue(solutions.stream().anyMatch(solution -> deepEquals(expectedSolution, solution)));
+    }
+  }
+
+  @Test
+  public void test_enumerateSolutions_parallel() {
+    // setup
+    int size = 5;
+    int[][] streams = {{1, 1, 1, 1, 1}, {2, 2, 2, 2, 2}, {3, 3, 3, 3, 3}, {4, 4, 4, 4, 4},
+        {5, 5, 5, 5, 5}};
+    int[][] numbers = {{1, 2, 3, 4, 5}, {0, 0, 0, 0, 0}, {0, 0, 0, 0, 0}, {0, 0, 0, 0, 0},
+        {0, 0, 0, 0, 0}};
+    Grid grid = newStrimkoGrid(size, streams, numbers);
+
+    // execution
+    long numberOfSolutions = enumerateSolutions(grid).parallel().count();
+
+    // verification
+    // there are 161280 latin squares of size 5 and 1344 of them have a fixed first row
+    assertEquals(1344, numberOfSolutions);
+  }
+
+  @Test
+  public void test_enumerateSolutions_lazy() {
+    // setup
+    int size = 9;
+    int[][] streams = new int[size][size];
+    for (int rowIndex = 0; rowIndex < size; rowIndex++) {
+      fill(streams[rowIndex], rowIndex + 1);
+    }
+    Grid grid = newStrimkoGrid(size, streams, new int[size][size]);
+
+    // execution
+    long numberOfSolutions = enumerateSolutions(grid).limit(3).count();
+
+    // verification
+    assertEquals(3, numberOfSolutions);
+  }
+
+  private static Grid newHardStrimkoGrid() {
+    int size = 7;
+    int[][] streams = {{1, 2, 3, 3, 2, 3, 3}, {2, 1, 2, 2, 3, 4, 3}, {2, 1, 1, 1, 1, 4, 3},
+        {2, 1, 5, 4, 4, 5, 4}, {6, 6, 6, 5, 4, 5, 7}, {6, 6, 5, 5, 5, 4, 7}, {6, 6, 7, 7, 7, 7, 7}};
+    int[][] numbers = {{0, 0, 0, 0, 0, 0, 0}, {1, 0, 0, 3, 5, 6, 0}, {0, 0, 0, 0, 0, 0, 0},
+        {0, 0, 0, 5, 7, 2, 0}, {0, 0, 0, 4, 0, 0, 0}, {0, 0, 0, 0, 6, 3, 0}, {0, 0, 0, 0, 0, 0, 0}};
+    return newStrimkoGrid(size, streams, numbers);
+  }
+
+  private void test_solve(Grid grid, Difficulty expectedDifficulty) {
+    SolvingResult result = solve(grid);
+    assertEquals(expectedDifficulty, result.getDifficulty());
+  }
+
+}
@@ -0,0 +1,201 @@
+package lowe.mike.strimko.model.solver;
+
+import static org.junit.jupiter.api.Assertions.assertArrayEquals;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import lowe.mike.strimko.model.Grid;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+/**
+ * {@link SolvingGrid} tests.
+ *
+ * @author Mike Lowe
+ */
+public final class SolvingGridTests extends SolvingMethodTests {
+
+  private static final int SIZE = 3;
+  private static final int[][] STREAMS = {{1, 1, 2}, {1, 2, 3}, {2, 3, 3}};
+  private static final int[][] NUMBERS = {{0, 0, 0}, {1, 3, 2}, {0, 0, 0}};
+  private static final int[][] SOLUTION = {{3, 2, 1}, {1, 3, 2}, {2, 1, 3}};
+  private Grid grid;
+  private SolvingGrid solvingGrid;
+
+  @BeforeEach
+  public void setup() {
+    grid = newStrimkoGrid(SIZE, STREAMS, NUMBERS);
+    solvingGrid = SolvingGrid.of(grid);
+  }
+
+  @Test
+  public void test_of() {
+    for (int cell = 0; cell < solvingGrid.getNumberOfCells(); cell++) {
+      int rowIndex = solvingGrid.getRowIndex(cell);
+      int columnIndex = solvingGrid.getColumnIndex(cell);
+      assertEquals(NUMBERS[rowIndex][columnIndex], solvingGrid.getNumber(cell));
+      assertEquals(grid.getCell(rowIndex, columnIndex).getPossibleNumbers(),
+          Candidates.toNumbers(solvingGrid.getCandidates(cell)));
+    }
+  }
+
+  @Test
+  public void test_getStreams() {
+    int[][] streams = solvingGrid.getStreams();
+    assertEquals(SIZE, streams.length);
+    for (int[] stream : streams) {
+      int streamIndex = solvingGrid.getStreamIndex(stream[0]);
+      for (int cell : stream) {
+        assertEquals(streamIndex, solvingGrid.getStreamIndex(cell));
+      }
+    }
+  }
+
+  @Test
+  public void test_setNumber() {
+    // execution
+    solvingGrid.setNumber(0, 3);
+
+    // verification
+    assertEquals(3, solvingGrid.getNumber(0));
+    assertEquals(Candidates.NONE, solvingGrid.getCandidates(0));
+    assertFalse(solvingGrid.containsCandidate(1, 3));
+    assertFalse(solvingGrid.containsCandidate(2, 3));
+    assertFalse(solvingGrid.containsCandidate(6, 3));
+  }
+
+  @Test
+  public void test_copyOf() {
+    // execution
+    SolvingGrid copy = SolvingGrid.copyOf(solvingGrid);
+    copy.setNumber(0, 2);
+
+    // verification
+    assertFalse(solvingGrid.isSet(0));
+    assertTrue(solvingGrid.containsCandidate(1, 2));
+    assertFalse(copy.containsCandidate(1, 2));
+  }
+
+  @Test
+  public void test_undoTo() {
+    // setup
+    SolvingGrid expected = SolvingGrid.copyOf(solvingGrid);
+    solvingGrid.startTrail();
+    int mark = solvingGrid.getTrailMark();
+    solvingGrid.setNumber(0, 2);
+    solvingGrid.removeCandidates(8, Candidates.of(1));
+
+    // execution
+    solvingGrid.undoTo(mark);
+
+    // verification
+    for (int cell = 0; cell < solvingGrid.getNumberOfCells(); cell++) {
+      assertEquals(expected.getNumber(cell), solvingGrid.getNumber(cell));
+      assertEquals(expected.getCandidates(cell), solvingGrid.getCandidates(cell));
+    }
+    assertEquals(expected.findFirstUnsetCell(), solvingGrid.findFirstUnsetCell());
+    assertFalse(solvingGrid.isSolved());
+  }
+
+  @Test
+  public void test_getCandidatePositions() {
+    // setup
+    solvingGrid.startTrail();
+    assertCandidatePositionsMatchCandidates(solvingGrid);
+
+    // execution and verification
+    final int mark = solvingGrid.getTrailMark();
+    solvingGrid.setNumber(0, 3);
+    solvingGrid.removeCandidates(8, Candidates.of(1));
+    assertCandidatePositionsMatchCandidates(solvingGrid);
+    solvingGrid.undoTo(mark);
+    assertCandidatePositionsMatchCandidates(solvingGrid);
+    assertCandidatePositionsMatchCandidates(SolvingGrid.copyOf(solvingGrid));
+  }
+
+  private static void assertCandidatePositionsMatchCandidates(SolvingGrid solvingGrid) {
+    int[][] groups = solvingGrid.getGroups();
+    for (int group = 0; group < groups.length; group++) {
+      for (int number = 1; number <= SIZE; number++) {
+        int expectedPositions = 0;
+        for (int position = 0; position < groups[group].length; position++) {
+          if (solvingGrid.containsCandidate(groups[group][position], number)) {
+            expectedPositions |= 1 << position;
+          }
+        }
+        assertEquals(expectedPositions, solvingGrid.getCandidatePositions(group, number));
+      }
+    }
+  }
+
+  @Test
+  public void test_findFirstNakedSingle() {
+    // setup
+    solvingGrid.removeCandidates(0, Candidates.of(2));
+
+    // execution and verification
+    assertEquals(getFirstNakedSingle(), solvingGrid.findFirstNakedSingle());
+    solvingGrid.setNumber(0, 3);
+    assertEquals(getFirstNakedSingle(), solvingGrid.findFirstNakedSingle());
+  }
+
+  private int getFirstNakedSingle() {
+    for (int cell = 0; cell < solvingGrid.getNumberOfCells(); cell++) {
+      if (Candidates.size(solvingGrid.getCandidates(cell)) == 1) {
+        return cell;
+      }
+    }
+    return -1;
+  }
+
+  @Test
+  public void test_findFirstGroupWithHiddenSingle() {
+    // execution and verification
+    int group = solvingGrid.findFirstGroupWithHiddenSingle(0);
+    assertEquals(getFirstGroupWithHiddenSingle(0), group);
+    assertEquals(getFirstGroupWithHiddenSingle(group + 1),
+        solvingGrid.findFirstGroupWithHiddenSingle(group + 1));
+  }
+
+  private int getFirstGroupWithHiddenSingle(int fromGroup) {
+    for (int group = fromGroup; group < solvingGrid.getGroups().length; group++) {
+      for (int number = 1; number <= SIZE; number++) {
+        if (Integer.bitCount(solvingGrid.getCandidatePositions(group, number)) == 1) {
+          return group;
+        }
+      }
+    }
+    return -1;
+  }
+
+  @Test
+  public void test_isSolved() {
+    assertFalse(solvingGrid.isSolved());
+
+    // set solution
+    for (int cell = 0; cell < solvingGrid.getNumberOfCells(); cell++) {
+      if (!solvingGrid.isSet(cell)) {
+        int number = SOLUTION[solvingGrid.getRowIndex(cell)][solvingGrid.getColumnIndex(cell)];
+        solvingGrid.setNumber(cell, number);
+      }
+    }
+
+    assertTrue(solvingGrid.isSolved());
+    assertArrayEquals(SOLUTION, solvingGrid.getSolution());
+  }
+
+  @Test
+  public void test_copyTo() {
+    // setup
+    solvingGrid.setNumber(0, 3);
+
+    // execution
+    solvingGrid.copyTo(grid);
+
+    // verification
+    assertEquals(3, grid.getCell(0, 0).getNumber());
+    assertFalse(grid.getCell(0, 1).getPossibleNumbers().contains(3));
+  }
+
+}
@@ -0,0 +1,150 @@
+package lowe.mike.strimko.model.solver;
+
+import static org.junit.jupiter.api.Assertions.assertArrayEquals;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.DataInputStream;
+import java.io.DataOutputStream;
+import java.io.IOException;
+import java.util.HashSet;
+import lowe.mike.strimko.model.Grid;
+import org.junit.jupiter.api.Test;
+
+/**
+ * {@link SolvingResultCache} tests.
+ *
+ * @author Mike Lowe
+ */
+public final class SolvingResultCacheTests extends SolvingMethodTests {
+
+  private static final int SIZE = 4;
+  private static final int[][] STREAMS = {{1, 2, 2, 3}, {2, 1, 3, 2}, {4, 3, 1, 4},
+      {3, 4, 4, 1}};
+  private static final int[][] NUMBERS = {{0, 0, 0, 2}, {0, 0, 0, 0}, {0, 0, 0, 0},
+      {4, 0, 0, 1}};
+  private static final int OTHER_SIZE = 5;
+  private static final int[][] OTHER_STREAMS = {{1, 1, 2, 2, 2}, {3, 1, 1, 2, 4},
+      {3, 3, 1, 4, 2}, {3, 5, 4, 5, 4}, {3, 5, 5, 5, 4}};
+  private static final int[][] OTHER_NUMBERS = {{0, 0, 0, 0, 3}, {0, 0, 0, 0, 0},
+      {0, 0, 0, 0, 0}, {0, 0, 0, 0, 2}, {4, 0, 0, 1, 0}};
+
+  @Test
+  public void test_solve() {
+    // setup
+    SolvingResultCache cache = new SolvingResultCache(SolvingResultCache.DEFAULT_CAPACITY);
+    Grid grid = newStrimkoGrid(SIZE, STREAMS, NUMBERS);
+
+    // execution
+    SolvingResult result = cache.solve(grid);
+
+    // verification
+    assertEquals(Solver.solve(grid), result);
+    assertTrue(cache.contains(grid));
+    assertEquals(result, cache.solve(newStrimkoGrid(SIZE, STREAMS, NUMBERS)));
+    assertEquals(1, cache.size());
+  }
+
+  @Test
+  public void test_solve_multipleSolutions() {
+    // setup
+    SolvingResultCache cache = new SolvingResultCache(SolvingResultCache.DEFAULT_CAPACITY);
+    int[][] numbers = new int[SIZE][SIZE];
+    Grid grid = newStrimkoGrid(SIZE, STREAMS, numbers);
+
+    // execution and verification
+    assertThrows(IllegalArgumentException.class, () -> cache.solve(grid));
+    assertEquals(0, cache.size());
+  }
+
+  @Test
+  public void test_solve_stopped() {
+    // setup
+    SolvingResultCache cache = new SolvingResultCache(SolvingResultCache.DEFAULT_CAPACITY);
+    Grid grid = newStrimkoGrid(OTHER_SIZE, OTHER_STREAMS, OTHER_NUMBERS);
+
+    // execution
+    SolvingResult result = cache.solve(grid, () -> true);
+
+    // verification
+    assertTrue(result.isTimedOut());
+    assertEquals(0, cache.size());
+    assertFalse(cache.solve(grid).isTimedOut());
+  }
+
+  @Test
+  public void test_solve_evictsLeastRecentlyUsed() {
+    // setup
+    SolvingResultCache cache = new SolvingResultCache(1);
+    Grid grid = newStrimkoGrid(SIZE, STREAMS, NUMBERS);
+    cache.solve(grid);
+    Grid otherGrid = newStrimkoGrid(OTHER_SIZE, OTHER_STREAMS, OTHER_NUMBERS);
+
+    // execution
+    cache.solve(otherGrid);
+
+    // verification
+    assertEquals(1, cache.size());
+    assertFalse(cache.contains(grid));
+    assertTrue(cache.contains(otherGrid));
+  }
+
+  @Test
+  public void test_invalidCapacity() {
+    assertThrows(IllegalArgumentException.class, () -> new SolvingResultCache(0));
+  }
+
+  @Test
+  public void test_solve_symmetricGrid() {
+    // setup
+    SolvingResultCache cache = new SolvingResultCache(SolvingResultCache.DEFAULT_CAPACITY);
+    cache.solve(newStrimkoGrid(SIZE, STREAMS, NUMBERS));
+    int[][] streams = {{1, 2, 4, 3}, {2, 1, 3, 4}, {2, 3, 1, 4}, {3, 2, 4, 1}};
+    int[][] numbers = {{0, 0, 0, 4}, {0, 0, 0, 0}, {0, 0, 0, 0}, {2, 0, 0, 1}};
+    Grid transposedGrid = newStrimkoGrid(SIZE, streams, numbers);
+    SolvingResult expected = Solver.solve(transposedGrid);
+
+    // execution
+    SolvingResult result = cache.solve(transposedGrid);
+
+    // verification
+    assertEquals(1, cache.size());
+    assertEquals(expected.getDifficulty(), result.getDifficulty());
+    assertArrayEquals(expected.getSolution(), result.getSolution());
+    assertEquals(new HashSet<>(expected.getHints()), new HashSet<>(result.getHints()));
+  }
+
+  @Test
+  public void test_writeToAndReadFrom() throws IOException {
+    // setup
+    SolvingResultCache cache = new SolvingResultCache(SolvingResultCache.DEFAULT_CAPACITY);
+    Grid grid = newStrimkoGrid(SIZE, STREAMS, NUMBERS);
+    final SolvingResult result = cache.solve(grid);
+    ByteArrayOutputStream bytes = new ByteArrayOutputStream();
+    SolvingResultCache readCache = new SolvingResultCache(SolvingResultCache.DEFAULT_CAPACITY);
+
+    // execution
+    cache.writeTo(new DataOutputStream(bytes));
+    readCache.readFrom(new DataInputStream(new ByteArrayInputStream(bytes.toByteArray())));
+
+    // verification
+    assertEquals(1, readCache.size());
+    assertEquals(result, readCache.solve(grid));
+  }
+
+  @Test
+  public void test_readFrom_unsupportedFormat() {
+    // setup
+    SolvingResultCache cache = new SolvingResultCache(SolvingResultCache.DEFAULT_CAPACITY);
+    byte[] bytes = {0, 0, 0, 0, 0, 0, 0, 0};
+
+    // execution and verification
+    assertThrows(IOException.class,
+        () -> cache.readFrom(new DataInputStream(new ByteArrayInputStream(bytes))));
+  }
+
+}
@@ -3,6 +3,8 @@ package lowe.mike.strimko;
 import static javafx.application.Platform.exit;
 import static lowe.mike.strimko.controller.Alerts.showErrorAndWait;
 import static lowe.mike.strimko.model.FileHandler.copyPuzzlesToUserDirectory;
+import static lowe.mike.strimko.model.FileHandler.readSolvingResults;
+import static lowe.mike.strimko.model.FileHandler.writeSolvingResults;
 
 import java.io.IOException;
 import java.net.URL;
@@ -14,7 +16,8 @@ import javafx.scene.image.Image;
 import javafx.stage.Stage;
 import lowe.mike.strimko.controller.MainViewController;
 import lowe.mike.strimko.model.FileHandlingException;
-import lowe.mike.strimko.model.GameState;
+import lowe.mike.strimko.model.observable.GameState;
+import lowe.mike.strimko.model.solver.SolvingResultCache;
 
 /**
  * Entry point for Strimko application.
@@ -30,10 +33,12 @@ public final class StrimkoApplication extends Application {
   private GameState gameState;
   private Stage primaryStage;
   private Parent mainView;
+  private boolean isSolvingResultCacheRead;
 
   @Override
   public void start(Stage primaryStage) {
     if (successfullyCopiedPuzzlesToUserDirectory()) {
+      readSolvingResultCache();
       initializeGameState();
       initializePrimaryStage(primaryStage);
       initializeMainView();
@@ -52,6 +57,16 @@ public final class StrimkoApplication extends Application {
     }
   }
 
+  private void readSolvingResultCache() {
+    try {
+      readSolvingResults(SolvingResultCache.getDefault());
+    } catch (FileHandlingException e) {
+      // the cache only saves time so start with an empty one
+      SolvingResultCache.getDefault().clear();
+    }
+    isSolvingResultCacheRead = true;
+  }
+
   private void initializeGameState() {
     gameState = new GameState();
   }
@@ -91,4 +106,17 @@ public final class StrimkoApplication extends Application {
     primaryStage.show();
   }
 
+  @Override
+  public void stop() {
+    // don't overwrite the saved results with a cache that was never read
+    if (!isSolvingResultCacheRead) {
+      return;
+    }
+    try {
+      writeSolvingResults(SolvingResultCache.getDefault());
+    } catch (FileHandlingException e) {
+      // the cache only saves time so losing it is not worth reporting on the way out
+    }
+  }
+
 }
@@ -1,7 +1,7 @@
 package lowe.mike.strimko.controller;
 
 import javafx.fxml.FXML;
-import lowe.mike.strimko.model.GameState;
+import lowe.mike.strimko.model.observable.GameState;
 
 /**
  * Controller class for Main View.
@@ -6,8 +6,14 @@ import static javafx.scene.layout.GridPane.setFillWidth;
 import static javafx.scene.layout.GridPane.setHgrow;
 import static javafx.scene.layout.Priority.SOMETIMES;
 import static lowe.mike.strimko.controller.Alerts.showErrorAndWait;
+import static lowe.mike.strimko.controller.Alerts.showWarningAndWait;
 
 import java.util.Iterator;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
 import javafx.beans.value.ObservableBooleanValue;
 import javafx.beans.value.ObservableIntegerValue;
 import javafx.beans.value.ObservableStringValue;
@@ -23,8 +29,8 @@ import javafx.scene.control.ToggleGroup;
 import javafx.scene.layout.GridPane;
 import javafx.scene.layout.Pane;
 import javafx.scene.layout.StackPane;
-import lowe.mike.strimko.model.GameState;
 import lowe.mike.strimko.model.Type;
+import lowe.mike.strimko.model.observable.GameState;
 
 /**
  * Abstract Controller class for Mode Views.
@@ -55,6 +61,16 @@ public abstract class ModeViewController {
   private static final String STREAM_STYLE_CLASS_PREFIX = "stream-";
   private static final String NUMBER_LABEL_STYLE_CLASS = "number-label";
   private static final String SOLUTION_LABEL_STYLE_CLASS = "solution-label";
+  private static final String TASK_THREAD_NAME_PREFIX = "strimko-task-";
+  private static final int NUMBER_OF_TASK_THREADS = 2;
+  private static final int TASK_QUEUE_CAPACITY = 16;
+  private static final AtomicInteger TASK_THREAD_COUNT = new AtomicInteger();
+
+  // shared by every controller, tasks that don't fit in the queue are rejected
+  private static final ExecutorService TASK_EXECUTOR = new ThreadPoolExecutor(
+      NUMBER_OF_TASK_THREADS, NUMBER_OF_TASK_THREADS, 0, TimeUnit.MILLISECONDS,
+      new ArrayBlockingQueue<>(TASK_QUEUE_CAPACITY), ModeViewController::newTaskThread,
+      (task, executor) -> rejectTask((Task<?>) task));
 
   /**
    * Set the state of the controller.
@@ -77,12 +93,40 @@ public abstract class ModeViewController {
   protected abstract void initialize();
 
   /**
-   * Runs a given {@link Task} in a thread.
+   * Runs a given {@link Task} in the background, off the JavaFX application thread. If too many
+   * tasks are already waiting to run, the {@link Task} is cancelled and the user is told to try
+   * again.
    *
    * @param task the {@link Task} to run
    */
-  protected static void runTaskInThread(Task<?> task) {
-    new Thread(task).run();
+  protected static void runTaskInBackground(Task<?> task) {
+    TASK_EXECUTOR.execute(task);
+  }
+
+  private static void rejectTask(Task<?> task) {
+    // tasks are only ever run from the application thread, so this is too
+    task.cancel();
+    showWarningAndWait("Still busy with earlier work, please try again in a moment");
+  }
+
+  private static Thread newTaskThread(Runnable runnable) {
+    Thread thread = new Thread(runnable,
+        TASK_THREAD_NAME_PREFIX + TASK_THREAD_COUNT.incrementAndGet());
+    // don't keep the application running once the window is closed
+    thread.setDaemon(true);
+    return thread;
+  }
+
+  /**
+   * Cancels the given {@link Task} if it has not finished, so that a {@link Task} that has been
+   * replaced by a newer one doesn't update the view. Does nothing if {@code task} is {@code null}.
+   *
+   * @param task the {@link Task} to cancel, may be {@code null}
+   */
+  protected static void cancelTask(Task<?> task) {
+    if (task != null) {
+      task.cancel();
+    }
   }
 
   /**
@@ -25,11 +25,12 @@ import javafx.scene.effect.Effect;
 import javafx.scene.effect.Glow;
 import javafx.scene.layout.GridPane;
 import javafx.scene.layout.StackPane;
-import lowe.mike.strimko.model.Cell;
 import lowe.mike.strimko.model.Difficulty;
 import lowe.mike.strimko.model.FileHandlingException;
-import lowe.mike.strimko.model.Grid;
-import lowe.mike.strimko.model.Puzzle;
+import lowe.mike.strimko.model.Type;
+import lowe.mike.strimko.model.observable.ObservableCell;
+import lowe.mike.strimko.model.observable.ObservableGrid;
+import lowe.mike.strimko.model.observable.ObservablePuzzle;
 
 /**
  * Controller class for Play Mode View.
@@ -58,6 +59,9 @@ public final class PlayModeViewController extends ModeViewController {
   private static final Effect GLOW = new Glow(0.7);
   private static final Effect NO_GLOW = null;
 
+  private Task<Collection<String>> listPuzzleFileNamesTask;
+  private Task<ObservablePuzzle> readPuzzleTask;
+
   @Override
   protected void initialize() {
     initializeDifficultyComboBox();
@@ -110,8 +114,9 @@ public final class PlayModeViewController extends ModeViewController {
 
   private void refreshPuzzleNames() {
     clearNameComboBoxSelection();
-    Task<Collection<String>> task = getListPuzzleFileNamesTask();
-    runTaskInThread(task);
+    cancelTask(listPuzzleFileNamesTask);
+    listPuzzleFileNamesTask = getListPuzzleFileNamesTask();
+    runTaskInBackground(listPuzzleFileNamesTask);
   }
 
   private void clearNameComboBoxSelection() {
@@ -119,11 +124,14 @@ public final class PlayModeViewController extends ModeViewController {
   }
 
   private Task<Collection<String>> getListPuzzleFileNamesTask() {
+    // read the controls now as the task runs off the application thread
+    Type type = getTypeComboBoxValue();
+    Difficulty difficulty = getDifficultyComboBoxValue();
     Task<Collection<String>> task = new Task<Collection<String>>() {
 
       @Override
       protected Collection<String> call() throws FileHandlingException {
-        return listPuzzleFileNames(getTypeComboBoxValue(), getDifficultyComboBoxValue());
+        return listPuzzleFileNames(type, difficulty);
       }
 
     };
@@ -149,16 +157,26 @@ public final class PlayModeViewController extends ModeViewController {
 
   @FXML
   private void loadButtonAction() {
-    Task<Puzzle> task = getReadPuzzleTask();
-    runTaskInThread(task);
+    // a puzzle still being read and solved has been replaced by this one
+    cancelTask(readPuzzleTask);
+    readPuzzleTask = getReadPuzzleTask();
+    runTaskInBackground(readPuzzleTask);
   }
 
-  private Task<Puzzle> getReadPuzzleTask() {
-    Task<Puzzle> task = new Task<Puzzle>() {
+  private Task<ObservablePuzzle> getReadPuzzleTask() {
+    Type type = getTypeComboBoxValue();
+    Difficulty difficulty = getDifficultyComboBoxValue();
+    String name = getNameComboBoxValue();
+    Task<ObservablePuzzle> task = new Task<ObservablePuzzle>() {
 
       @Override
-      protected Puzzle call() throws FileHandlingException {
-        return read(getTypeComboBoxValue(), getDifficultyComboBoxValue(), getNameComboBoxValue());
+      protected ObservablePuzzle call() throws FileHandlingException {
+        updateProgress(0, 1);
+        // stop solving as soon as this task is cancelled
+        ObservablePuzzle puzzle = new ObservablePuzzle(
+            read(type, difficulty, name, this::isCancelled));
+        updateProgress(1, 1);
+        return puzzle;
       }
 
     };
@@ -173,7 +191,7 @@ public final class PlayModeViewController extends ModeViewController {
     return nameComboBox.getValue();
   }
 
-  private void updateStateAndViewIfSuccessful(Task<Puzzle> task) {
+  private void updateStateAndViewIfSuccessful(Task<ObservablePuzzle> task) {
     task.setOnSucceeded((event) -> {
       gameState.setPuzzle(task.getValue());
       updateGridPane();
@@ -186,17 +204,17 @@ public final class PlayModeViewController extends ModeViewController {
   private void updateGridPane() {
     resetGridPane();
 
-    Grid grid = gameState.getPuzzle().getGrid();
+    ObservableGrid grid = gameState.getPuzzle().getGrid();
     int size = grid.getSize();
 
-    for (Cell cell : grid.getCells()) {
+    for (ObservableCell cell : grid.getCells()) {
       StackPane cellPane = newCellPane(size, cell.getStreamIndex());
       addCellPaneChildren(cellPane, cell);
       addCellPaneToGridPane(cellPane, cell.getColumnIndex(), cell.getRowIndex());
     }
   }
 
-  private void addCellPaneChildren(StackPane cellPane, Cell cell) {
+  private void addCellPaneChildren(StackPane cellPane, ObservableCell cell) {
     ObservableStringValue textProperty = getNumberLabelTextProperty(cell);
     ObservableBooleanValue visibilityProperty = getNumberLabelVisibilityProperty();
     addNumberLabelToCellPane(cellPane, textProperty, visibilityProperty);
@@ -206,7 +224,7 @@ public final class PlayModeViewController extends ModeViewController {
     addCellPaneClickEvent(cellPane, cell);
   }
 
-  private static ObservableStringValue getNumberLabelTextProperty(Cell cell) {
+  private static ObservableStringValue getNumberLabelTextProperty(ObservableCell cell) {
     ObservableBooleanValue cellIsSet = cell.setProperty();
     ObservableStringValue number = cell.numberProperty().asString();
     ObservableStringValue noNumber = new SimpleStringProperty();
@@ -217,7 +235,7 @@ public final class PlayModeViewController extends ModeViewController {
     return solutionButton.selectedProperty().not();
   }
 
-  private void addSolutionLabel(StackPane cellPane, Cell cell) {
+  private void addSolutionLabel(StackPane cellPane, ObservableCell cell) {
     runLater(() -> {
       int number = gameState.getPuzzle().getSolutionForCell(cell);
       ObservableBooleanValue visibilityProperty = getSolutionLabelVisibilityProperty();
@@ -229,7 +247,7 @@ public final class PlayModeViewController extends ModeViewController {
     return solutionButton.selectedProperty();
   }
 
-  private void addPencilMarksPane(StackPane cellPane, Cell cell) {
+  private void addPencilMarksPane(StackPane cellPane, ObservableCell cell) {
     runLater(() -> {
       GridPane pencilMarksPane = new GridPane();
 
@@ -256,7 +274,7 @@ public final class PlayModeViewController extends ModeViewController {
     return height / NUMBER_OF_PENCIL_MARK_COLUMNS;
   }
 
-  private static void addPencilMarkLabel(GridPane pencilMarksPane, Cell cell, int number,
+  private static void addPencilMarkLabel(GridPane pencilMarksPane, ObservableCell cell, int number,
       double width,
       double height) {
     Label pencilMarkLabel = new Label(Integer.toString(number));
@@ -314,12 +332,12 @@ public final class PlayModeViewController extends ModeViewController {
     pencilMarksPane.getStyleClass().add(PENCIL_MARKS_PANE_STYLE_CLASS);
   }
 
-  private void addHintHighlighting(StackPane cellPane, Cell cell) {
+  private void addHintHighlighting(StackPane cellPane, ObservableCell cell) {
     runLater(() -> cellPane.effectProperty()
         .bind(when(nextHint().isEqualTo(cell).and(showingHint())).then(GLOW).otherwise(NO_GLOW)));
   }
 
-  private ReadOnlyObjectProperty<Cell> nextHint() {
+  private ReadOnlyObjectProperty<ObservableCell> nextHint() {
     return gameState.getPuzzle().nextHintProperty();
   }
 
@@ -327,7 +345,7 @@ public final class PlayModeViewController extends ModeViewController {
     return hintButton.selectedProperty();
   }
 
-  private void addCellPaneClickEvent(StackPane cellPane, Cell cell) {
+  private void addCellPaneClickEvent(StackPane cellPane, ObservableCell cell) {
     cellPane.setOnMouseClicked(event -> {
       ToggleButton selectedNumberButton = getSelectedToggleButtonFromPane(numbersPane);
       if (selectedNumberButton != null) {
@@ -358,7 +376,7 @@ public final class PlayModeViewController extends ModeViewController {
   }
 
   private void addNumberButtons() {
-    Grid grid = gameState.getPuzzle().getGrid();
+    ObservableGrid grid = gameState.getPuzzle().getGrid();
     int size = grid.getSize();
 
     for (int number = 1; number <= size; number++) {
@@ -366,7 +384,7 @@ public final class PlayModeViewController extends ModeViewController {
     }
   }
 
-  private void addNumberButton(Grid grid, int size, int number) {
+  private void addNumberButton(ObservableGrid grid, int size, int number) {
     ObservableIntegerValue occurrenceProperty = grid.numberOccurrenceProperty(number);
     ToggleButton numberButton = newNumberedToggleButton(size, number, controlsToggleGroup,
         occurrenceProperty);
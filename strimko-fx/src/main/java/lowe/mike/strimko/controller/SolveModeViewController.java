@@ -10,11 +10,12 @@ import static lowe.mike.strimko.model.Constants.NO_NUMBER;
 import static lowe.mike.strimko.model.Constants.SUDOKU_SIZE;
 import static lowe.mike.strimko.model.Constants.getStrimkoPuzzleSizes;
 import static lowe.mike.strimko.model.Constants.getSudokuStreams;
+import static lowe.mike.strimko.model.FileHandler.findDuplicate;
 import static lowe.mike.strimko.model.FileHandler.write;
 import static lowe.mike.strimko.model.Type.STRIMKO;
 import static lowe.mike.strimko.model.Type.SUDOKU;
 
-import java.util.concurrent.ExecutionException;
+import java.util.function.Consumer;
 import javafx.beans.property.ReadOnlyIntegerProperty;
 import javafx.beans.property.SimpleBooleanProperty;
 import javafx.beans.property.SimpleStringProperty;
@@ -22,6 +23,7 @@ import javafx.beans.value.ObservableBooleanValue;
 import javafx.beans.value.ObservableIntegerValue;
 import javafx.beans.value.ObservableStringValue;
 import javafx.concurrent.Task;
+import javafx.concurrent.Worker.State;
 import javafx.fxml.FXML;
 import javafx.scene.Node;
 import javafx.scene.control.Button;
@@ -32,9 +34,10 @@ import javafx.scene.layout.GridPane;
 import javafx.scene.layout.StackPane;
 import lowe.mike.strimko.model.Cell;
 import lowe.mike.strimko.model.FileHandlingException;
-import lowe.mike.strimko.model.Grid;
 import lowe.mike.strimko.model.Grid.GridBuilder;
 import lowe.mike.strimko.model.Puzzle;
+import lowe.mike.strimko.model.Type;
+import lowe.mike.strimko.model.observable.ObservableGridBuilder;
 
 /**
  * Controller class for Solve Mode View.
@@ -58,6 +61,8 @@ public final class SolveModeViewController extends ModeViewController {
 
   private static final String STREAM_BUTTON_STYLE_CLASS = "stream-button";
 
+  private Task<Puzzle> solutionTask;
+
   @Override
   protected void initialize() {
     initializeSizeComboBox();
@@ -158,7 +163,7 @@ public final class SolveModeViewController extends ModeViewController {
   }
 
   private void updateGridBuilder() {
-    GridBuilder gridBuilder = new GridBuilder(getSizeComboBoxValue());
+    ObservableGridBuilder gridBuilder = new ObservableGridBuilder(getSizeComboBoxValue());
     if (getTypeComboBoxValue() == SUDOKU) {
       gridBuilder.setStreams(getSudokuStreams());
     }
@@ -168,7 +173,7 @@ public final class SolveModeViewController extends ModeViewController {
   private void updateGridPane() {
     resetGridPane();
 
-    GridBuilder gridBuilder = gameState.getGridBuilder();
+    ObservableGridBuilder gridBuilder = gameState.getGridBuilder();
     int size = gridBuilder.getSize();
 
     for (int rowIndex = 0; rowIndex < size; rowIndex++) {
@@ -211,7 +216,7 @@ public final class SolveModeViewController extends ModeViewController {
 
   private void addCellPaneClickEvent(StackPane cellPane, int columnIndex, int rowIndex) {
     cellPane.setOnMouseClicked(event -> {
-      GridBuilder gridBuilder = gameState.getGridBuilder();
+      ObservableGridBuilder gridBuilder = gameState.getGridBuilder();
       ToggleButton selectedStreamButton = getSelectedToggleButtonFromPane(streamsPane);
       ToggleButton selectedNumberButton = getSelectedToggleButtonFromPane(numbersPane);
       if (selectedStreamButton != null) {
@@ -243,7 +248,7 @@ public final class SolveModeViewController extends ModeViewController {
   }
 
   private void addStreamButtons() {
-    GridBuilder gridBuilder = gameState.getGridBuilder();
+    ObservableGridBuilder gridBuilder = gameState.getGridBuilder();
     int size = gridBuilder.getSize();
 
     for (int streamIndex = 1; streamIndex <= size; streamIndex++) {
@@ -251,7 +256,7 @@ public final class SolveModeViewController extends ModeViewController {
     }
   }
 
-  private void addStreamButton(GridBuilder gridBuilder, int size, int streamIndex) {
+  private void addStreamButton(ObservableGridBuilder gridBuilder, int size, int streamIndex) {
     ObservableIntegerValue occurrenceProperty = gridBuilder
         .streamIndexOccurrenceProperty(streamIndex);
     ToggleButton streamButton = newNumberedToggleButton(size, streamIndex, controlsToggleGroup,
@@ -266,7 +271,7 @@ public final class SolveModeViewController extends ModeViewController {
   }
 
   private void addNumberButtons() {
-    GridBuilder gridBuilder = gameState.getGridBuilder();
+    ObservableGridBuilder gridBuilder = gameState.getGridBuilder();
     int size = gridBuilder.getSize();
 
     for (int number = 1; number <= size; number++) {
@@ -274,7 +279,7 @@ public final class SolveModeViewController extends ModeViewController {
     }
   }
 
-  private void addNumberButton(GridBuilder gridBuilder, int size, int number) {
+  private void addNumberButton(ObservableGridBuilder gridBuilder, int size, int number) {
     ObservableIntegerValue occurrenceProperty = gridBuilder.numberOccurrenceProperty(number);
     ToggleButton numberButton = newNumberedToggleButton(size, number, controlsToggleGroup,
         occurrenceProperty);
@@ -300,43 +305,64 @@ public final class SolveModeViewController extends ModeViewController {
         clearNumberButton};
 
     if (showSolution()) {
-      Puzzle puzzle = createPuzzle();
-      if (puzzle == null) {
+      // don't let the grid change while it is being solved
+      disableNodes(nodes);
+      solutionTask = createPuzzle(this::addSolutionLabels, () -> {
         deselectToggles(solutionButton);
-      } else {
-        addSolutionLabels(puzzle);
-        disableNodes(nodes);
-      }
+        enableNodes(nodes);
+      });
     } else {
+      cancelTask(solutionTask);
       removeSolutionLabels();
       enableNodes(nodes);
     }
   }
 
-  private Puzzle createPuzzle() {
+  private Task<Puzzle> createPuzzle(Consumer<Puzzle> onCreated, Runnable onNotCreated) {
     Task<Puzzle> task = getCreatePuzzleTask();
-    runTaskInThread(task);
-
-    try {
-      return task.get();
-    } catch (InterruptedException | ExecutionException e) {
-      showWarningAndWait(e.getCause());
-      return null;
-    }
+    task.setOnSucceeded((event) -> onCreated.accept(task.getValue()));
+    task.setOnCancelled((event) -> onNotCreated.run());
+    task.setOnFailed((event) -> {
+      onNotCreated.run();
+      showWarningAndWait(task.getException());
+    });
+    runTaskInBackground(task);
+    return task;
   }
 
   private Task<Puzzle> getCreatePuzzleTask() {
+    // copy the grid builder now as the task runs off the application thread
+    GridBuilder gridBuilder = copyGridBuilder();
+    Type type = getTypeComboBoxValue();
     return new Task<Puzzle>() {
 
       @Override
       protected Puzzle call() {
-        Grid grid = gameState.getGridBuilder().build();
-        return new Puzzle(getTypeComboBoxValue(), grid);
+        updateProgress(0, 1);
+        // stop solving as soon as this task is cancelled
+        Puzzle puzzle = new Puzzle(type, gridBuilder.build(), this::isCancelled);
+        updateProgress(1, 1);
+        return puzzle;
       }
 
     };
   }
 
+  private GridBuilder copyGridBuilder() {
+    ObservableGridBuilder observableGridBuilder = gameState.getGridBuilder();
+    int size = observableGridBuilder.getSize();
+    GridBuilder gridBuilder = new GridBuilder(size);
+    for (int rowIndex = 0; rowIndex < size; rowIndex++) {
+      for (int columnIndex = 0; columnIndex < size; columnIndex++) {
+        gridBuilder.setStreamIndex(rowIndex, columnIndex,
+            observableGridBuilder.getStreamIndex(rowIndex, columnIndex));
+        gridBuilder.setNumber(rowIndex, columnIndex,
+            observableGridBuilder.getNumber(rowIndex, columnIndex));
+      }
+    }
+    return gridBuilder;
+  }
+
   private void addSolutionLabels(Puzzle puzzle) {
     for (Node node : gridPane.getChildren()) {
       StackPane cellPane = (StackPane) node;
@@ -362,12 +388,10 @@ public final class SolveModeViewController extends ModeViewController {
 
   @FXML
   private void saveButtonAction() {
-    Puzzle puzzle = createPuzzle();
-
-    if (puzzle != null) {
-      Task<String> task = getWritePuzzleTask(puzzle);
-      runTaskInThread(task);
-    }
+    // only one save at a time
+    disableNodes(saveButton);
+    createPuzzle((puzzle) -> runTaskInBackground(getWritePuzzleTask(puzzle)),
+        () -> enableNodes(saveButton));
   }
 
   private Task<String> getWritePuzzleTask(Puzzle puzzle) {
@@ -375,23 +399,44 @@ public final class SolveModeViewController extends ModeViewController {
 
       @Override
       protected String call() throws FileHandlingException {
-        return write(puzzle);
+        updateProgress(0, 2);
+        String duplicateName = findDuplicate(puzzle);
+        updateProgress(1, 2);
+        if (duplicateName != null) {
+          return "Puzzle has already been saved!" + getPuzzleDetails(puzzle, duplicateName);
+        }
+        String name = write(puzzle);
+        updateProgress(2, 2);
+        return "Saved puzzle successfully!" + getPuzzleDetails(puzzle, name);
       }
 
     };
 
-    showMessageAndUpdateViewOnSuccess(task, puzzle);
+    enableSaveButtonWhenFinished(task);
+    showMessageAndUpdateViewOnSuccess(task);
     showErrorAndWaitIfTaskUnsuccessful(task);
 
     return task;
   }
 
-  private void showMessageAndUpdateViewOnSuccess(Task<String> task, Puzzle puzzle) {
+  private void enableSaveButtonWhenFinished(Task<String> task) {
+    task.stateProperty().addListener((observable, oldState, newState) -> {
+      if (newState == State.SUCCEEDED || newState == State.FAILED
+          || newState == State.CANCELLED) {
+        enableNodes(saveButton);
+      }
+    });
+  }
+
+  private static String getPuzzleDetails(Puzzle puzzle, String name) {
+    return "\nType: " + puzzle.getType() + "\nDifficulty: " + puzzle.getDifficulty() + "\nName: "
+        + name;
+  }
+
+  private void showMessageAndUpdateViewOnSuccess(Task<String> task) {
     task.setOnSucceeded((event) -> {
       resetViewAndState();
-      String message = "Saved puzzle successfully!\nType: " + puzzle.getType() + "\nDifficulty: "
-          + puzzle.getDifficulty() + "\nName: " + task.getValue();
-      showMessageAndWait(message);
+      showMessageAndWait(task.getValue());
     });
   }
 
@@ -1,10 +1,9 @@
-package lowe.mike.strimko.model;
+package lowe.mike.strimko.model.observable;
 
 import static java.util.Objects.hash;
 
 import javafx.beans.property.ReadOnlyObjectProperty;
 import javafx.beans.property.ReadOnlyObjectWrapper;
-import lowe.mike.strimko.model.Grid.GridBuilder;
 
 /**
  * {@code GameState} instances contain information about the current state of the game.
@@ -13,64 +12,65 @@ import lowe.mike.strimko.model.Grid.GridBuilder;
  */
 public final class GameState {
 
-  private final ReadOnlyObjectWrapper<Puzzle> puzzle = new ReadOnlyObjectWrapper<>();
-  private final ReadOnlyObjectWrapper<GridBuilder> gridBuilder = new ReadOnlyObjectWrapper<>();
+  private final ReadOnlyObjectWrapper<ObservablePuzzle> puzzle = new ReadOnlyObjectWrapper<>();
+  private final ReadOnlyObjectWrapper<ObservableGridBuilder> gridBuilder =
+      new ReadOnlyObjectWrapper<>();
 
   /**
-   * Returns the {@link Puzzle} being played.
+   * Returns the {@link ObservablePuzzle} being played.
    *
-   * @return the {@link Puzzle} being played
+   * @return the {@link ObservablePuzzle} being played
    */
-  public Puzzle getPuzzle() {
+  public ObservablePuzzle getPuzzle() {
     return puzzle.get();
   }
 
   /**
-   * Sets the {@link Puzzle} being played.
+   * Sets the {@link ObservablePuzzle} being played.
    *
-   * @param puzzle the {@link Puzzle} being played
+   * @param puzzle the {@link ObservablePuzzle} being played
    */
-  public void setPuzzle(Puzzle puzzle) {
+  public void setPuzzle(ObservablePuzzle puzzle) {
     if (puzzle != null) {
       this.puzzle.set(puzzle);
     }
   }
 
   /**
-   * Returns the {@link ReadOnlyObjectProperty} of the {@link Puzzle} being played.
+   * Returns the {@link ReadOnlyObjectProperty} of the {@link ObservablePuzzle} being played.
    *
-   * @return the {@link ReadOnlyObjectProperty} of the {@link Puzzle} being played
+   * @return the {@link ReadOnlyObjectProperty} of the {@link ObservablePuzzle} being played
    */
-  public ReadOnlyObjectProperty<Puzzle> puzzleProperty() {
+  public ReadOnlyObjectProperty<ObservablePuzzle> puzzleProperty() {
     return puzzle.getReadOnlyProperty();
   }
 
   /**
-   * Returns the {@link GridBuilder}.
+   * Returns the {@link ObservableGridBuilder}.
    *
-   * @return the {@link GridBuilder}
+   * @return the {@link ObservableGridBuilder}
    */
-  public GridBuilder getGridBuilder() {
+  public ObservableGridBuilder getGridBuilder() {
     return gridBuilder.get();
   }
 
   /**
-   * Sets the {@link GridBuilder}.
+   * Sets the {@link ObservableGridBuilder}.
    *
-   * @param gridBuilder the {@link GridBuilder}
+   * @param gridBuilder the {@link ObservableGridBuilder}
    */
-  public void setGridBuilder(GridBuilder gridBuilder) {
+  public void setGridBuilder(ObservableGridBuilder gridBuilder) {
     if (gridBuilder != null) {
       this.gridBuilder.set(gridBuilder);
     }
   }
 
   /**
-   * Returns the {@link ReadOnlyObjectProperty} of the {@link GridBuilder}.
+   * Returns the {@link ReadOnlyObjectProperty} of the {@link ObservableGridBuilder}.
    *
-   * @return the {@link ReadOnlyObjectProperty} of the {@link GridBuilder}
+   * @return the {@link ReadOnlyObjectProperty} of the {@link ObservableGridBuilder}
    */
-  public ReadOnlyObjectProperty<GridBuilder> gridBuilderProperty() {
+  public ReadOnlyObjectProperty<ObservableGridBuilder> gridBuilderProperty() {
     return gridBuilder.getReadOnlyProperty();
   }
 
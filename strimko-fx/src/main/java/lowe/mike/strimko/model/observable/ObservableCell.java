@@ -0,0 +1,150 @@
+package lowe.mike.strimko.model.observable;
+
+import static javafx.collections.FXCollections.observableSet;
+import static javafx.collections.FXCollections.unmodifiableObservableSet;
+
+import java.util.HashSet;
+import javafx.beans.property.ReadOnlyBooleanProperty;
+import javafx.beans.property.ReadOnlyBooleanWrapper;
+import javafx.beans.property.ReadOnlyIntegerProperty;
+import javafx.beans.property.ReadOnlyIntegerWrapper;
+import javafx.collections.ObservableSet;
+import lowe.mike.strimko.model.Cell;
+
+/**
+ * {@code ObservableCell} instances wrap a {@link Cell} and expose its state as JavaFX properties
+ * so that it can be bound to the view.
+ *
+ * @author Mike Lowe
+ */
+public final class ObservableCell {
+
+  private final Cell cell;
+  private final ReadOnlyIntegerWrapper number = new ReadOnlyIntegerWrapper();
+  private final ReadOnlyBooleanWrapper isSet = new ReadOnlyBooleanWrapper();
+  private final ObservableSet<Integer> possibleNumbers = observableSet(new HashSet<>());
+
+  /**
+   * Creates a new {@code ObservableCell} instance given the {@link Cell} to wrap.
+   *
+   * @param cell the {@link Cell} to wrap
+   */
+  public ObservableCell(Cell cell) {
+    this.cell = cell;
+    updateNumber();
+    updatePossibleNumbers();
+    this.cell.addNumberListener((oldNumber, newNumber) -> updateNumber());
+    this.cell.addPossibleNumbersListener(this::updatePossibleNumbers);
+  }
+
+  private void updateNumber() {
+    number.set(cell.getNumber());
+    isSet.set(cell.isSet());
+  }
+
+  private void updatePossibleNumbers() {
+    possibleNumbers.retainAll(cell.getPossibleNumbers());
+    possibleNumbers.addAll(cell.getPossibleNumbers());
+  }
+
+  /**
+   * Returns the wrapped {@link Cell}.
+   *
+   * @return the wrapped {@link Cell}
+   */
+  public Cell getCell() {
+    return cell;
+  }
+
+  /**
+   * Returns this {@code ObservableCell}'s row index.
+   *
+   * @return this {@code ObservableCell}'s row index
+   */
+  public int getRowIndex() {
+    return cell.getRowIndex();
+  }
+
+  /**
+   * Returns this {@code ObservableCell}'s column index.
+   *
+   * @return this {@code ObservableCell}'s column index
+   */
+  public int getColumnIndex() {
+    return cell.getColumnIndex();
+  }
+
+  /**
+   * Returns this {@code ObservableCell}'s stream index.
+   *
+   * @return this {@code ObservableCell}'s stream index
+   */
+  public int getStreamIndex() {
+    return cell.getStreamIndex();
+  }
+
+  /**
+   * Returns this {@code ObservableCell}'s number, 0 if it is not set.
+   *
+   * @return this {@code ObservableCell}'s number, 0 if it is not set
+   */
+  public int getNumber() {
+    return number.get();
+  }
+
+  /**
+   * Sets the number of this {@code ObservableCell}, if it is not locked.
+   *
+   * @param number the number to set
+   */
+  public void setNumber(int number) {
+    cell.setNumber(number);
+  }
+
+  /**
+   * Returns this {@code ObservableCell}'s number as an {@link ReadOnlyIntegerProperty}.
+   *
+   * @return this {@code ObservableCell}'s number as an {@link ReadOnlyIntegerProperty}
+   */
+  public ReadOnlyIntegerProperty numberProperty() {
+    return number.getReadOnlyProperty();
+  }
+
+  /**
+   * Clears the number from this {@code ObservableCell}, if it is not locked.
+   */
+  public void clearNumber() {
+    cell.clearNumber();
+  }
+
+  /**
+   * Returns {@code true} if this {@code ObservableCell} is set; {@code false} otherwise.
+   *
+   * @return {@code true} if this {@code ObservableCell} is set; {@code false} otherwise
+   */
+  public boolean isSet() {
+    return isSet.get();
+  }
+
+  /**
+   * Returns this {@code ObservableCell}'s {@link ReadOnlyBooleanProperty} indicating if the number
+   * has been set.
+   *
+   * @return this {@code ObservableCell}'s {@link ReadOnlyBooleanProperty} indicating if the number
+   *     has been set
+   */
+  public ReadOnlyBooleanProperty setProperty() {
+    return isSet.getReadOnlyProperty();
+  }
+
+  /**
+   * Returns an unmodifiable {@link ObservableSet} of this {@code ObservableCell}'s possible
+   * numbers.
+   *
+   * @return an unmodifiable {@link ObservableSet} of this {@code ObservableCell}'s possible numbers
+   */
+  public ObservableSet<Integer> getPossibleNumbers() {
+    return unmodifiableObservableSet(possibleNumbers);
+  }
+
+}
@@ -0,0 +1,164 @@
+package lowe.mike.strimko.model.observable;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.List;
+import javafx.beans.property.ReadOnlyBooleanProperty;
+import javafx.beans.property.ReadOnlyBooleanWrapper;
+import javafx.beans.property.ReadOnlyIntegerProperty;
+import javafx.beans.property.ReadOnlyIntegerWrapper;
+import lowe.mike.strimko.model.Cell;
+import lowe.mike.strimko.model.Grid;
+
+/**
+ * {@code ObservableGrid} instances wrap a {@link Grid} and expose its state as JavaFX properties
+ * so that it can be bound to the view.
+ *
+ * @author Mike Lowe
+ */
+public final class ObservableGrid {
+
+  private final Grid grid;
+  private final List<ObservableCell> cells = new ArrayList<>();
+  private final ReadOnlyIntegerWrapper[] numberOccurrences;
+  private final ReadOnlyBooleanWrapper isSolved = new ReadOnlyBooleanWrapper();
+
+  /**
+   * Creates a new {@code ObservableGrid} instance given the {@link Grid} to wrap.
+   *
+   * @param grid the {@link Grid} to wrap
+   */
+  public ObservableGrid(Grid grid) {
+    this.grid = grid;
+    this.numberOccurrences = new ReadOnlyIntegerWrapper[this.grid.getSize() + 1];
+    initialize();
+  }
+
+  private void initialize() {
+    initializeCells();
+    initializeNumberOccurrences();
+    updateIsSolved();
+  }
+
+  private void initializeCells() {
+    for (Cell cell : grid.getCells()) {
+      cells.add(new ObservableCell(cell));
+      addCellChangeListener(cell);
+    }
+  }
+
+  private void addCellChangeListener(Cell cell) {
+    cell.addNumberListener((oldNumber, newNumber) -> {
+      updateNumberOccurrence(oldNumber);
+      updateNumberOccurrence(newNumber);
+      updateIsSolved();
+    });
+  }
+
+  private void initializeNumberOccurrences() {
+    for (int number = 0; number < numberOccurrences.length; number++) {
+      numberOccurrences[number] = new ReadOnlyIntegerWrapper();
+      updateNumberOccurrence(number);
+    }
+  }
+
+  private void updateNumberOccurrence(int number) {
+    numberOccurrences[number].set(grid.getNumberOccurrences(number));
+  }
+
+  private void updateIsSolved() {
+    isSolved.set(grid.isSolved());
+  }
+
+  /**
+   * Returns the wrapped {@link Grid}.
+   *
+   * @return the wrapped {@link Grid}
+   */
+  public Grid getGrid() {
+    return grid;
+  }
+
+  /**
+   * Returns the size of this {@code ObservableGrid}.
+   *
+   * @return the size of this {@code ObservableGrid}
+   */
+  public int getSize() {
+    return grid.getSize();
+  }
+
+  /**
+   * Returns the {@link ObservableCell} at the position indicated by the {@code rowIndex} and
+   * {@code columnIndex}.
+   *
+   * @param rowIndex row index of the {@link ObservableCell}
+   * @param columnIndex column index of the {@link ObservableCell}
+   * @return the {@link ObservableCell} at the position indicated by the {@code rowIndex} and
+   *     {@code columnIndex}
+   */
+  public ObservableCell getCell(int rowIndex, int columnIndex) {
+    int position = rowIndex * getSize() + columnIndex;
+    return cells.get(position);
+  }
+
+  /**
+   * Returns the {@link Collection} of all {@link ObservableCell}s.
+   *
+   * @return the {@link Collection} of all {@link ObservableCell}s
+   */
+  public Collection<ObservableCell> getCells() {
+    return cells;
+  }
+
+  /**
+   * Returns the total occurrences of a number in this {@code ObservableGrid}.
+   *
+   * @param number the number to get occurrences for
+   * @return the total occurrences of a number in this {@code ObservableGrid}
+   */
+  public int getNumberOccurrences(int number) {
+    return numberOccurrences[number].get();
+  }
+
+  /**
+   * Returns the {@link ReadOnlyIntegerProperty} indicating the number of times a number occurs in
+   * this {@code ObservableGrid}.
+   *
+   * @param number the number to return the property for
+   * @return the {@link ReadOnlyIntegerProperty} indicating the number of times a number occurs in
+   *     this {@code ObservableGrid}
+   */
+  public ReadOnlyIntegerProperty numberOccurrenceProperty(int number) {
+    return numberOccurrences[number].getReadOnlyProperty();
+  }
+
+  /**
+   * Returns {@code true} if this {@code ObservableGrid} is solved; {@code false} otherwise.
+   *
+   * @return {@code true} if this {@code ObservableGrid} is solved; {@code false} otherwise
+   */
+  public boolean isSolved() {
+    return isSolved.get();
+  }
+
+  /**
+   * Returns the {@link ReadOnlyBooleanProperty} indicating if this {@code ObservableGrid} has been
+   * solved.
+   *
+   * @return the {@link ReadOnlyBooleanProperty} indicating if this {@code ObservableGrid} has been
+   *     solved
+   */
+  public ReadOnlyBooleanProperty isSolvedProperty() {
+    return isSolved.getReadOnlyProperty();
+  }
+
+  /**
+   * Resets this {@code ObservableGrid} by clearing numbers from {@link ObservableCell}s which are
+   * not locked.
+   */
+  public void reset() {
+    grid.reset();
+  }
+
+}
@@ -0,0 +1,273 @@
+package lowe.mike.strimko.model.observable;
+
+import static java.util.Objects.hash;
+import static lowe.mike.strimko.model.Constants.NO_NUMBER;
+import static lowe.mike.strimko.model.Constants.NO_STREAM_INDEX;
+
+import javafx.beans.property.ReadOnlyIntegerProperty;
+import javafx.beans.property.ReadOnlyIntegerWrapper;
+import lowe.mike.strimko.model.Grid;
+import lowe.mike.strimko.model.Grid.GridBuilder;
+
+/**
+ * {@code ObservableGridBuilder} instances wrap a {@link GridBuilder} and expose its stream indexes,
+ * numbers and occurrences as JavaFX properties so that they can be bound to the view.
+ *
+ * @author Mike Lowe
+ */
+public final class ObservableGridBuilder {
+
+  private final GridBuilder gridBuilder;
+  private final ReadOnlyIntegerWrapper[][] streamProperties;
+  private final ReadOnlyIntegerWrapper[][] numberProperties;
+  private final ReadOnlyIntegerWrapper[] streamIndexOccurrences;
+  private final ReadOnlyIntegerWrapper[] numberOccurrences;
+
+  /**
+   * Creates a new {@code ObservableGridBuilder} instance given the size of the {@link Grid} to
+   * create.
+   *
+   * @param size the size of the {@link Grid} to create
+   * @throws IllegalArgumentException if the size passed in is invalid
+   */
+  public ObservableGridBuilder(int size) {
+    this.gridBuilder = new GridBuilder(size);
+    this.streamProperties = newProperties(size, size);
+    this.numberProperties = newProperties(size, size);
+    this.streamIndexOccurrences = newProperties(size + 1);
+    this.numberOccurrences = newProperties(size + 1);
+    this.streamIndexOccurrences[NO_STREAM_INDEX].set(size * size);
+    this.numberOccurrences[NO_NUMBER].set(size * size);
+  }
+
+  private static ReadOnlyIntegerWrapper[][] newProperties(int rows, int columns) {
+    ReadOnlyIntegerWrapper[][] properties = new ReadOnlyIntegerWrapper[rows][];
+    for (int rowIndex = 0; rowIndex < rows; rowIndex++) {
+      properties[rowIndex] = newProperties(columns);
+    }
+    return properties;
+  }
+
+  private static ReadOnlyIntegerWrapper[] newProperties(int length) {
+    ReadOnlyIntegerWrapper[] properties = new ReadOnlyIntegerWrapper[length];
+    for (int index = 0; index < length; index++) {
+      properties[index] = new ReadOnlyIntegerWrapper();
+    }
+    return properties;
+  }
+
+  /**
+   * Returns the size of this {@code ObservableGridBuilder}.
+   *
+   * @return the size of this {@code ObservableGridBuilder}
+   */
+  public int getSize() {
+    return gridBuilder.getSize();
+  }
+
+  /**
+   * Returns the stream index at the given row index and column index.
+   *
+   * @param rowIndex the row index
+   * @param columnIndex the column index
+   * @return the stream index at the given row index and column index
+   */
+  public int getStreamIndex(int rowIndex, int columnIndex) {
+    return gridBuilder.getStreamIndex(rowIndex, columnIndex);
+  }
+
+  /**
+   * Sets the stream index.
+   *
+   * @param rowIndex the row index
+   * @param columnIndex the column index
+   * @param streamIndex the stream index
+   * @return this {@code ObservableGridBuilder}
+   * @throws IllegalArgumentException if the stream index is invalid
+   */
+  public ObservableGridBuilder setStreamIndex(int rowIndex, int columnIndex, int streamIndex) {
+    int oldStreamIndex = gridBuilder.getStreamIndex(rowIndex, columnIndex);
+    gridBuilder.setStreamIndex(rowIndex, columnIndex, streamIndex);
+    streamIndexOccurrences[oldStreamIndex]
+        .set(gridBuilder.getStreamIndexOccurrences(oldStreamIndex));
+    streamIndexOccurrences[streamIndex].set(gridBuilder.getStreamIndexOccurrences(streamIndex));
+    streamProperties[rowIndex][columnIndex].set(streamIndex);
+    return this;
+  }
+
+  /**
+   * Sets the array of stream indexes.
+   *
+   * @param streams array of stream indexes
+   * @return this {@code ObservableGridBuilder}
+   * @throws IllegalArgumentException if {@code streams} contains an invalid stream index
+   */
+  public ObservableGridBuilder setStreams(int[][] streams) {
+    int size = getSize();
+    for (int rowIndex = 0; rowIndex < size; rowIndex++) {
+      for (int columnIndex = 0; columnIndex < size; columnIndex++) {
+        setStreamIndex(rowIndex, columnIndex, streams[rowIndex][columnIndex]);
+      }
+    }
+    return this;
+  }
+
+  /**
+   * Returns the {@link ReadOnlyIntegerProperty} indicating the stream index.
+   *
+   * @param rowIndex the row index
+   * @param columnIndex the stream index
+   * @return the {@link ReadOnlyIntegerProperty} indicating the stream index
+   */
+  public ReadOnlyIntegerProperty streamIndexProperty(int rowIndex, int columnIndex) {
+    return streamProperties[rowIndex][columnIndex].getReadOnlyProperty();
+  }
+
+  /**
+   * Clears the stream index at the given row index and column index.
+   *
+   * @param rowIndex the row index
+   * @param columnIndex the column index
+   * @return this {@code ObservableGridBuilder}
+   */
+  public ObservableGridBuilder clearStreamIndex(int rowIndex, int columnIndex) {
+    return setStreamIndex(rowIndex, columnIndex, NO_STREAM_INDEX);
+  }
+
+  /**
+   * Clears all stream indexes.
+   *
+   * @return this {@code ObservableGridBuilder}
+   */
+  public ObservableGridBuilder clearStreamIndexes() {
+    int size = getSize();
+    for (int rowIndex = 0; rowIndex < size; rowIndex++) {
+      for (int columnIndex = 0; columnIndex < size; columnIndex++) {
+        clearStreamIndex(rowIndex, columnIndex);
+      }
+    }
+    return this;
+  }
+
+  /**
+   * Returns the number at the given row index and stream index.
+   *
+   * @param rowIndex the row index
+   * @param columnIndex the column index
+   * @return the number at the given row index and stream index
+   */
+  public int getNumber(int rowIndex, int columnIndex) {
+    return gridBuilder.getNumber(rowIndex, columnIndex);
+  }
+
+  /**
+   * Sets the number at a given row and column index.
+   *
+   * @param rowIndex the row index
+   * @param columnIndex the column index
+   * @param number the number
+   * @return this {@code ObservableGridBuilder}
+   * @throws IllegalArgumentException if the number is invalid
+   */
+  public ObservableGridBuilder setNumber(int rowIndex, int columnIndex, int number) {
+    int oldNumber = gridBuilder.getNumber(rowIndex, columnIndex);
+    gridBuilder.setNumber(rowIndex, columnIndex, number);
+    numberOccurrences[oldNumber].set(gridBuilder.getNumberOccurrences(oldNumber));
+    numberOccurrences[number].set(gridBuilder.getNumberOccurrences(number));
+    numberProperties[rowIndex][columnIndex].set(number);
+    return this;
+  }
+
+  /**
+   * Returns the {@link ReadOnlyIntegerProperty} indicating the number.
+   *
+   * @param rowIndex the row index
+   * @param columnIndex the column index
+   * @return the {@link ReadOnlyIntegerProperty} indicating the number
+   */
+  public ReadOnlyIntegerProperty numberProperty(int rowIndex, int columnIndex) {
+    return numberProperties[rowIndex][columnIndex].getReadOnlyProperty();
+  }
+
+  /**
+   * Clears the number at the given row index and column index.
+   *
+   * @param rowIndex the row index
+   * @param columnIndex the column index
+   * @return this {@code ObservableGridBuilder}
+   */
+  public ObservableGridBuilder clearNumber(int rowIndex, int columnIndex) {
+    return setNumber(rowIndex, columnIndex, NO_NUMBER);
+  }
+
+  /**
+   * Clears all numbers.
+   *
+   * @return this {@code ObservableGridBuilder}
+   */
+  public ObservableGridBuilder clearNumbers() {
+    int size = getSize();
+    for (int rowIndex = 0; rowIndex < size; rowIndex++) {
+      for (int columnIndex = 0; columnIndex < size; columnIndex++) {
+        clearNumber(rowIndex, columnIndex);
+      }
+    }
+    return this;
+  }
+
+  /**
+   * Returns the {@link ReadOnlyIntegerProperty} indicating the number of times a stream index
+   * occurs in this {@code ObservableGridBuilder}.
+   *
+   * @param streamIndex the streamIndex to return the property for
+   * @return the {@link ReadOnlyIntegerProperty} indicating the number of times a stream index
+   *     occurs in this {@code ObservableGridBuilder}
+   */
+  public ReadOnlyIntegerProperty streamIndexOccurrenceProperty(int streamIndex) {
+    return streamIndexOccurrences[streamIndex].getReadOnlyProperty();
+  }
+
+  /**
+   * Returns the {@link ReadOnlyIntegerProperty} indicating the number of times a number occurs in
+   * this {@code ObservableGridBuilder}.
+   *
+   * @param number the number to return the property for
+   * @return the {@link ReadOnlyIntegerProperty} indicating the number of times a number occurs in
+   *     this {@code ObservableGridBuilder}
+   */
+  public ReadOnlyIntegerProperty numberOccurrenceProperty(int number) {
+    return numberOccurrences[number].getReadOnlyProperty();
+  }
+
+  /**
+   * Builds a new {@link Grid} instance.
+   *
+   * @return a new {@link Grid} instance
+   * @throws IllegalArgumentException if the array of stream indexes is invalid or if any row,
+   *     column or stream does not contain unique numbers
+   */
+  public Grid build() {
+    return gridBuilder.build();
+  }
+
+  @Override
+  public int hashCode() {
+    return hash(gridBuilder);
+  }
+
+  @Override
+  public boolean equals(Object obj) {
+    if (this == obj) {
+      return true;
+    }
+    if (obj == null) {
+      return false;
+    }
+    if (getClass() != obj.getClass()) {
+      return false;
+    }
+    ObservableGridBuilder other = (ObservableGridBuilder) obj;
+    return gridBuilder.equals(other.gridBuilder);
+  }
+
+}
@@ -0,0 +1,139 @@
+package lowe.mike.strimko.model.observable;
+
+import static java.util.Objects.hash;
+
+import javafx.beans.property.ReadOnlyObjectProperty;
+import javafx.beans.property.ReadOnlyObjectWrapper;
+import lowe.mike.strimko.model.Cell;
+import lowe.mike.strimko.model.Difficulty;
+import lowe.mike.strimko.model.Puzzle;
+import lowe.mike.strimko.model.Type;
+
+/**
+ * {@code ObservablePuzzle} instances wrap a {@link Puzzle} and expose its state as JavaFX
+ * properties so that it can be bound to the view.
+ *
+ * @author Mike Lowe
+ */
+public final class ObservablePuzzle {
+
+  private final Puzzle puzzle;
+  private final ObservableGrid grid;
+  private final ReadOnlyObjectWrapper<ObservableCell> nextHint = new ReadOnlyObjectWrapper<>();
+
+  /**
+   * Creates a new {@code ObservablePuzzle} instance given the {@link Puzzle} to wrap.
+   *
+   * @param puzzle the {@link Puzzle} to wrap
+   */
+  public ObservablePuzzle(Puzzle puzzle) {
+    this.puzzle = puzzle;
+    this.grid = new ObservableGrid(this.puzzle.getGrid());
+    initialize();
+  }
+
+  private void initialize() {
+    addCellChangeListeners();
+    updateNextHint();
+  }
+
+  private void addCellChangeListeners() {
+    for (Cell cell : puzzle.getGrid().getCells()) {
+      cell.addNumberListener((oldNumber, newNumber) -> updateNextHint());
+    }
+  }
+
+  private void updateNextHint() {
+    Cell cell = puzzle.getNextHint();
+    if (cell == null) {
+      nextHint.set(null);
+    } else {
+      nextHint.set(grid.getCell(cell.getRowIndex(), cell.getColumnIndex()));
+    }
+  }
+
+  /**
+   * Returns the wrapped {@link Puzzle}.
+   *
+   * @return the wrapped {@link Puzzle}
+   */
+  public Puzzle getPuzzle() {
+    return puzzle;
+  }
+
+  /**
+   * Returns this {@code ObservablePuzzle}'s {@link Type}.
+   *
+   * @return this {@code ObservablePuzzle}'s {@link Type}
+   */
+  public Type getType() {
+    return puzzle.getType();
+  }
+
+  /**
+   * Returns this {@code ObservablePuzzle}'s {@link Difficulty}.
+   *
+   * @return this {@code ObservablePuzzle}'s {@link Difficulty}
+   */
+  public Difficulty getDifficulty() {
+    return puzzle.getDifficulty();
+  }
+
+  /**
+   * Returns this {@code ObservablePuzzle}'s {@link ObservableGrid}.
+   *
+   * @return this {@code ObservablePuzzle}'s {@link ObservableGrid}
+   */
+  public ObservableGrid getGrid() {
+    return grid;
+  }
+
+  /**
+   * Returns the solution for the {@link ObservableCell}.
+   *
+   * @param cell the {@link ObservableCell}
+   * @return the solution for the {@link ObservableCell}
+   */
+  public int getSolutionForCell(ObservableCell cell) {
+    return puzzle.getSolutionForCell(cell.getCell());
+  }
+
+  /**
+   * Returns the next {@link ObservableCell} hint or {@code null} if there are no hints left.
+   *
+   * @return the next {@link ObservableCell} hint or {@code null} if there are no hints left
+   */
+  public ObservableCell getNextHint() {
+    return nextHint.get();
+  }
+
+  /**
+   * Returns the next hint {@link ReadOnlyObjectProperty}.
+   *
+   * @return the next hint {@link ReadOnlyObjectProperty}
+   */
+  public ReadOnlyObjectProperty<ObservableCell> nextHintProperty() {
+    return nextHint.getReadOnlyProperty();
+  }
+
+  @Override
+  public int hashCode() {
+    return hash(puzzle);
+  }
+
+  @Override
+  public boolean equals(Object obj) {
+    if (this == obj) {
+      return true;
+    }
+    if (obj == null) {
+      return false;
+    }
+    if (getClass() != obj.getClass()) {
+      return false;
+    }
+    ObservablePuzzle other = (ObservablePuzzle) obj;
+    return puzzle.equals(other.puzzle);
+  }
+
+}
@@ -0,0 +1,85 @@
+package lowe.mike.strimko.model.observable;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import lowe.mike.strimko.model.Grid.GridBuilder;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+/**
+ * {@link ObservableGrid} tests.
+ *
+ * @author Mike Lowe
+ */
+public final class ObservableGridTests {
+
+  private ObservableGrid grid;
+  private static final int SIZE = 3;
+  private static final int[][] STREAMS = {{1, 1, 2}, {1, 2, 3}, {2, 3, 3}};
+  private static final int[][] NUMBERS = {{0, 0, 0}, {1, 3, 2}, {0, 0, 0}};
+  private static final int[][] SOLUTION = {{3, 2, 1}, {1, 3, 2}, {2, 1, 3}};
+
+  @BeforeEach
+  public void setup() {
+    grid = new ObservableGrid(new GridBuilder(SIZE).setStreams(STREAMS).setNumbers(NUMBERS)
+        .build());
+  }
+
+  @Test
+  public void test_setNumber_updatesCellProperties() {
+    // setup
+    ObservableCell cell = grid.getCell(0, 0);
+
+    // execution
+    cell.setNumber(3);
+
+    // verification
+    assertEquals(3, cell.numberProperty().get());
+    assertTrue(cell.setProperty().get());
+    assertTrue(cell.getPossibleNumbers().isEmpty());
+    assertFalse(grid.getCell(0, 1).getPossibleNumbers().contains(3));
+  }
+
+  @Test
+  public void test_setNumber_updatesNumberOccurrenceProperty() {
+    // setup
+    int occurrences = grid.numberOccurrenceProperty(3).get();
+
+    // execution
+    grid.getCell(0, 0).setNumber(3);
+
+    // verification
+    assertEquals(occurrences + 1, grid.numberOccurrenceProperty(3).get());
+    assertEquals(grid.getGrid().getNumberOccurrences(3), grid.getNumberOccurrences(3));
+  }
+
+  @Test
+  public void test_isSolvedProperty() {
+    // execution
+    for (int rowIndex = 0; rowIndex < SIZE; rowIndex++) {
+      for (int columnIndex = 0; columnIndex < SIZE; columnIndex++) {
+        grid.getCell(rowIndex, columnIndex).setNumber(SOLUTION[rowIndex][columnIndex]);
+      }
+    }
+
+    // verification
+    assertTrue(grid.isSolvedProperty().get());
+  }
+
+  @Test
+  public void test_reset() {
+    // setup
+    grid.getCell(0, 0).setNumber(3);
+
+    // execution
+    grid.reset();
+
+    // verification
+    assertFalse(grid.getCell(0, 0).setProperty().get());
+    assertTrue(grid.getCell(0, 0).getPossibleNumbers().contains(3));
+    assertFalse(grid.isSolvedProperty().get());
+  }
+
+}